@@ -0,0 +1,191 @@
+package com.darrenswhite.rs.ironquest.path;
+
+import com.darrenswhite.rs.ironquest.path.algorithm.AlgorithmFactory;
+import com.darrenswhite.rs.ironquest.path.algorithm.AlgorithmId;
+import com.darrenswhite.rs.ironquest.path.algorithm.DefaultAlgorithm;
+import com.darrenswhite.rs.ironquest.path.algorithm.PathFinderAlgorithm;
+import com.darrenswhite.rs.ironquest.path.algorithm.SmartPriorities;
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.PlayerService;
+import com.darrenswhite.rs.ironquest.player.QuestPriority;
+import com.darrenswhite.rs.ironquest.player.QuestStatus;
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.QuestAccessFilter;
+import com.darrenswhite.rs.ironquest.quest.QuestRepository;
+import com.darrenswhite.rs.ironquest.quest.QuestTypeFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * End to end benchmark for {@link PathFinder} using the real quest data.
+ *
+ * Each benchmark is run for every {@link Profile} of player and every {@link AlgorithmId}. The
+ * <tt>benchmark</tt> Maven profile enables the gc profiler, which also reports the allocation
+ * rate:
+ *
+ * <pre>mvn -P benchmark test-compile exec:exec -Djmh.args=PathFinderBenchmark</pre>
+ *
+ * @author Darren S. White
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@Fork(1)
+@Measurement(iterations = 3, time = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 10)
+public class PathFinderBenchmark {
+
+  private static final String QUESTS_JSON = "quests.json";
+
+  @Param
+  private Profile profile;
+
+  @Param
+  private AlgorithmId algorithm;
+
+  private PathFinderAlgorithm pathFinderAlgorithm;
+  private Player player;
+
+  @Setup
+  public void setup() throws IOException {
+    QuestRepository questRepository = new QuestRepository(new ClassPathResource(QUESTS_JSON),
+        new ObjectMapper());
+    AlgorithmFactory algorithmFactory = new AlgorithmFactory(
+        Set.of(new DefaultAlgorithm(), new SmartPriorities()));
+
+    pathFinderAlgorithm = algorithmFactory.getAlgorithm(algorithm);
+    player = profile.createPlayer(new PlayerService(questRepository, null, null),
+        questRepository.getQuestGraph().getQuests());
+  }
+
+  /**
+   * Find the full {@link Path} for a copy of the player.
+   *
+   * @return the path
+   */
+  @Benchmark
+  public Path find() throws QuestNotFoundException {
+    return new PathFinder(player.copy(), pathFinderAlgorithm).find();
+  }
+
+  /**
+   * Find the first {@link Quest} for a copy of the player, which evaluates every incomplete quest
+   * and compares all of the candidates.
+   *
+   * @return the first quest
+   */
+  @Benchmark
+  public Quest nextQuest() {
+    QuestIterator iterator = new QuestIterator(player.copy(), pathFinderAlgorithm);
+
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  /**
+   * Representative {@link Player} profiles.
+   */
+  public enum Profile {
+
+    /**
+     * A new account with no completed quests.
+     */
+    FRESH,
+
+    /**
+     * An account with half of the quests completed and all skills at level 50.
+     */
+    MID_GAME,
+
+    /**
+     * An account with nine tenths of the quests completed and all skills at level 85.
+     */
+    NEAR_COMPLETE,
+
+    /**
+     * A new ironman account using recommended requirements.
+     */
+    IRONMAN,
+
+    /**
+     * A new account with every tenth quest prioritised.
+     */
+    PRIORITIES,
+
+    /**
+     * A new account with preferred skills for lamps.
+     */
+    LAMP_SKILLS;
+
+    /**
+     * Create a {@link Player} for this profile.
+     *
+     * @param playerService the service used to create the player
+     * @param quests all quests in topological order
+     * @return the player
+     */
+    Player createPlayer(PlayerService playerService, List<Quest> quests) {
+      boolean ironman = this == IRONMAN;
+      Set<Skill> lampSkills = Collections.emptySet();
+      Map<Integer, QuestPriority> questPriorities = new HashMap<>();
+
+      if (this == LAMP_SKILLS) {
+        lampSkills = new LinkedHashSet<>(
+            List.of(Skill.HERBLORE, Skill.PRAYER, Skill.SLAYER, Skill.SUMMONING, Skill.INVENTION));
+      } else if (this == PRIORITIES) {
+        for (int i = 0; i < quests.size(); i += 10) {
+          questPriorities.put(quests.get(i).getId(), QuestPriority.MAXIMUM);
+        }
+      }
+
+      Player player = playerService.createPlayer(null, QuestAccessFilter.ALL,
+          QuestTypeFilter.ALL, ironman, ironman, lampSkills, questPriorities);
+
+      if (this == MID_GAME) {
+        progress(player, quests, 0.5, 50);
+      } else if (this == NEAR_COMPLETE) {
+        progress(player, quests, 0.9, 85);
+      }
+
+      return player;
+    }
+
+    /**
+     * Complete a fraction of the quests, in topological order, and train all skills to a level.
+     *
+     * @param player the player
+     * @param quests all quests in topological order
+     * @param completed the fraction of quests to complete
+     * @param level the level to train all skills to
+     */
+    private static void progress(Player player, List<Quest> quests, double completed,
+        int level) {
+      for (int i = 0; i < quests.size() * completed; i++) {
+        player.setQuestStatus(quests.get(i), QuestStatus.COMPLETED);
+      }
+
+      for (Skill skill : Skill.values()) {
+        player.addSkillXP(skill, Math.max(0, skill.getXpAtLevel(level) - player.getXp(skill)));
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@link Skill} level and id lookups.
+ *
+ * The linear benchmarks use the previous implementations, which scanned the xp table and the skill
+ * values, as a baseline.
+ *
+ * @author Darren S. White
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class SkillBenchmark {
+
+  private static final int SAMPLES = 1024;
+
+  private final Skill[] skills = new Skill[SAMPLES];
+  private final double[] xps = new double[SAMPLES];
+  private final int[] ids = new int[SAMPLES];
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    Skill[] values = Skill.values();
+
+    for (int i = 0; i < SAMPLES; i++) {
+      Skill skill = values[random.nextInt(values.length)];
+      int level = 1 + random.nextInt(skill.getMaxLevel());
+      double xp = skill.getXpAtLevel(level);
+      double nextXp = level < skill.getMaxLevel() ? skill.getXpAtLevel(level + 1) : xp + 1;
+
+      skills[i] = skill;
+      xps[i] = xp + random.nextDouble() * (nextXp - xp);
+      ids[i] = skill.getId();
+    }
+  }
+
+  @Benchmark
+  public void getLevelAt(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(skills[i].getLevelAt(xps[i]));
+    }
+  }
+
+  @Benchmark
+  public void getLevelAtLinear(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(getLevelAtLinear(skills[i], xps[i]));
+    }
+  }
+
+  @Benchmark
+  public void getById(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(Skill.getById(ids[i]));
+    }
+  }
+
+  @Benchmark
+  public void getByIdLinear(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      int id = ids[i];
+
+      blackhole.consume(Stream.of(Skill.values())
+          .filter(skill -> skill.getId() == id).findFirst().orElse(null));
+    }
+  }
+
+  private static int getLevelAtLinear(Skill skill, double xp) {
+    double[] table = skill.getXpTable();
+    int max = Math.min(skill.getMaxLevel(), table.length - 1);
+
+    for (int i = max; i > 0; i--) {
+      if (xp >= table[i]) {
+        return i;
+      }
+    }
+
+    return 1;
+  }
+}
@@ -1,8 +1,14 @@
 package com.darrenswhite.rs.ironquest;
 
+import com.darrenswhite.rs.ironquest.quest.QuestRepository;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -12,6 +18,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * @author Darren S. White
  */
 @SpringBootApplication
+@EnableScheduling
 public class Application {
 
   public static void main(String[] args) {
@@ -33,4 +40,23 @@ public class Application {
       }
     };
   }
+
+  /**
+   * Poll the quest data for modifications, if it is a file which can be modified.
+   *
+   * @param questRepository the quest repository
+   * @param interval the interval between polls
+   * @return the scheduling configurer
+   * @see QuestRepository#isReloadable()
+   */
+  @Bean
+  public SchedulingConfigurer questsReloadConfigurer(QuestRepository questRepository,
+      @Value("${quests.reload.interval}") Duration interval) {
+    return registrar -> {
+      if (questRepository.isReloadable()) {
+        registrar.addFixedDelayTask(
+            new FixedDelayTask(questRepository::reloadIfModified, interval, interval));
+      }
+    };
+  }
 }
@@ -1,6 +1,7 @@
 package com.darrenswhite.rs.ironquest.action;
 
 import com.darrenswhite.rs.ironquest.dto.ActionDTO;
+import com.darrenswhite.rs.ironquest.dto.PlayerDTO;
 import com.darrenswhite.rs.ironquest.player.Player;
 
 /**
@@ -54,8 +55,19 @@ public abstract class Action {
    * Returns a DTO for this {@link Action}.
    *
    * @return the DTO
+   * @see Action#createDTO(PlayerDTO)
    */
-  public abstract ActionDTO createDTO();
+  public ActionDTO createDTO() {
+    return createDTO(player.createDTO());
+  }
+
+  /**
+   * Returns a DTO for this {@link Action} with the specified {@link PlayerDTO}.
+   *
+   * @param player the player DTO, which may be a delta from a previous action
+   * @return the DTO
+   */
+  public abstract ActionDTO createDTO(PlayerDTO player);
 
   /**
    * Returns the {@link ActionType}.
@@ -1,6 +1,7 @@
 package com.darrenswhite.rs.ironquest.action;
 
 import com.darrenswhite.rs.ironquest.dto.LampActionDTO;
+import com.darrenswhite.rs.ironquest.dto.PlayerDTO;
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.Skill;
 import com.darrenswhite.rs.ironquest.quest.Quest;
@@ -126,7 +127,15 @@ public class LampAction extends Action {
    */
   @Override
   public LampActionDTO createDTO() {
-    return new LampActionDTO.Builder().withPlayer(getPlayer().createDTO()).withFuture(isFuture())
+    return createDTO(getPlayer().createDTO());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LampActionDTO createDTO(PlayerDTO player) {
+    return new LampActionDTO.Builder().withPlayer(player).withFuture(isFuture())
         .withMessage(getMessage()).withQuest(getQuest().createDTO()).build();
   }
 
@@ -1,5 +1,6 @@
 package com.darrenswhite.rs.ironquest.action;
 
+import com.darrenswhite.rs.ironquest.dto.PlayerDTO;
 import com.darrenswhite.rs.ironquest.dto.QuestActionDTO;
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.QuestStatus;
@@ -69,7 +70,15 @@ public class QuestAction extends Action {
    */
   @Override
   public QuestActionDTO createDTO() {
-    return new QuestActionDTO.Builder().withPlayer(getPlayer().createDTO()).withFuture(isFuture())
+    return createDTO(getPlayer().createDTO());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public QuestActionDTO createDTO(PlayerDTO player) {
+    return new QuestActionDTO.Builder().withPlayer(player).withFuture(isFuture())
         .withMessage(getMessage()).withQuest(getQuest().createDTO()).build();
   }
 
@@ -1,5 +1,6 @@
 package com.darrenswhite.rs.ironquest.action;
 
+import com.darrenswhite.rs.ironquest.dto.PlayerDTO;
 import com.darrenswhite.rs.ironquest.dto.TrainActionDTO;
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.Skill;
@@ -101,7 +102,15 @@ public class TrainAction extends Action {
    */
   @Override
   public TrainActionDTO createDTO() {
-    return new TrainActionDTO.Builder().withPlayer(getPlayer().createDTO()).withFuture(isFuture())
+    return createDTO(getPlayer().createDTO());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public TrainActionDTO createDTO(PlayerDTO player) {
+    return new TrainActionDTO.Builder().withPlayer(player).withFuture(isFuture())
         .withMessage(getMessage()).build();
   }
 
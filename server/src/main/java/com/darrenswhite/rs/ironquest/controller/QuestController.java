@@ -1,20 +1,34 @@
 package com.darrenswhite.rs.ironquest.controller;
 
+import com.darrenswhite.rs.ironquest.action.Action;
+import com.darrenswhite.rs.ironquest.dto.ActionDTO;
 import com.darrenswhite.rs.ironquest.dto.PathDTO;
 import com.darrenswhite.rs.ironquest.dto.PathFinderParametersDTO;
 import com.darrenswhite.rs.ironquest.dto.QuestParametersDTO;
+import com.darrenswhite.rs.ironquest.path.ActionDTOFactory;
 import com.darrenswhite.rs.ironquest.path.Path;
+import com.darrenswhite.rs.ironquest.path.PathCache;
 import com.darrenswhite.rs.ironquest.path.PathFinderService;
+import com.darrenswhite.rs.ironquest.path.PathListener;
 import com.darrenswhite.rs.ironquest.path.QuestNotFoundException;
 import com.darrenswhite.rs.ironquest.path.algorithm.AlgorithmId;
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.PlayerService;
 import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * {@link RestController} for quests path finder API.
@@ -27,11 +41,16 @@ public class QuestController {
 
   private final PlayerService playerService;
   private final PathFinderService pathFinderService;
+  private final PathCache pathCache;
+  private final ObjectMapper objectMapper;
 
   @Autowired
-  public QuestController(PlayerService playerService, PathFinderService pathFinderService) {
+  public QuestController(PlayerService playerService, PathFinderService pathFinderService,
+      PathCache pathCache, ObjectMapper objectMapper) {
     this.playerService = playerService;
     this.pathFinderService = pathFinderService;
+    this.pathCache = pathCache;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -51,17 +70,158 @@ public class QuestController {
   /**
    * Finds the optimal {@link Path} for the given parameters.
    *
+   * If a path has already been found for the same parameters and player state, then the cached
+   * path is returned instead.
+   *
    * @param parameters the parameters
    * @return the optimal path
    * @throws QuestNotFoundException if the optimal {@link Quest} can not be found
+   * @see Path#createDTO(boolean)
    */
   @GetMapping("/path")
   public PathDTO getPath(PathFinderParametersDTO parameters) throws QuestNotFoundException {
-    Player player = playerService.createPlayer(parameters.getName(), parameters.getAccessFilter(),
+    Player player = createPlayer(parameters);
+    AlgorithmId algorithm = parameters.getAlgorithm();
+    PathCache.Key key = pathCache.createKey(parameters, player);
+    Optional<Path> cachedPath = pathCache.get(key);
+
+    if (cachedPath.isPresent()) {
+      return cachedPath.get().createDTO(parameters.isCompact());
+    }
+
+    Path path = pathFinderService.find(player, algorithm);
+
+    pathCache.put(key, path);
+
+    return path.createDTO(parameters.isCompact());
+  }
+
+  /**
+   * Finds the optimal {@link Path} for the given parameters, streaming each {@link Action} as
+   * newline delimited JSON as soon as it is added to the path.
+   *
+   * A future lamp action which is resolved once its requirements are met is followed later by a
+   * line containing only the index of its action line, counting action lines from zero, e.g.
+   * <tt>{"resolved":3}</tt>. The resolved action is not part of the path, and the processed lamp
+   * action is streamed after it. If compact, each action line contains the player delta from the
+   * previous action line, including resolved actions.
+   *
+   * If a path has already been found for the same parameters and player state, then the actions
+   * of the cached path are streamed instead. Otherwise the path is cached once it has been found.
+   *
+   * Finding the path stops if writing an action fails because the client has disconnected, or if
+   * the request times out. The response is committed by the first action, so if the optimal {@link
+   * Quest} can not be found, then the stream ends with a line containing only the error message,
+   * e.g. <tt>{"error":"..."}</tt>.
+   *
+   * @param parameters the parameters
+   * @return the streamed actions
+   * @see PathFinderService#find(Player, AlgorithmId, PathListener)
+   */
+  @GetMapping(value = "/path/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamPath(PathFinderParametersDTO parameters) {
+    Player player = createPlayer(parameters);
+    AlgorithmId algorithm = parameters.getAlgorithm();
+    PathCache.Key key = pathCache.createKey(parameters, player);
+    Optional<Path> cachedPath = pathCache.get(key);
+    ActionDTOFactory factory = new ActionDTOFactory(parameters.isCompact());
+
+    StreamingResponseBody body = out -> {
+      try (JsonGenerator generator = objectMapper.createGenerator(out)
+          .setRootValueSeparator(null)) {
+        PathListener listener = new PathListener() {
+          @Override
+          public void onAction(int index, Action action) {
+            writeAction(generator, factory.create(action));
+          }
+
+          @Override
+          public void onResolved(int index) {
+            writeResolved(generator, index);
+          }
+        };
+
+        try {
+          if (cachedPath.isPresent()) {
+            List<Action> actions = cachedPath.get().getActions();
+
+            for (int i = 0; i < actions.size(); i++) {
+              listener.onAction(i, actions.get(i));
+            }
+          } else {
+            pathCache.put(key, pathFinderService.find(player, algorithm, listener));
+          }
+        } catch (QuestNotFoundException e) {
+          writeError(generator, e.getMessage());
+        }
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  /**
+   * Create the {@link Player} for the given parameters.
+   *
+   * @param parameters the parameters
+   * @return the player
+   */
+  private Player createPlayer(PathFinderParametersDTO parameters) {
+    return playerService.createPlayer(parameters.getName(), parameters.getAccessFilter(),
         parameters.getTypeFilter(), parameters.isIronman(), parameters.isRecommended(),
         parameters.getLampSkills(), parameters.getQuestPriorities());
-    AlgorithmId algorithm = parameters.getAlgorithm();
+  }
 
-    return pathFinderService.find(player, algorithm).createDTO();
+  /**
+   * Write the {@link ActionDTO} as a line of JSON and flush it to the client.
+   *
+   * @param generator the generator to write to
+   * @param action the action DTO
+   * @throws UncheckedIOException if the action could not be written
+   */
+  private void writeAction(JsonGenerator generator, ActionDTO action) {
+    try {
+      generator.writeObject(action);
+      generator.writeRaw('\n');
+      generator.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Write the index of a resolved future action as a line of JSON and flush it to the client.
+   *
+   * @param generator the generator to write to
+   * @param index the index of the resolved action
+   * @throws UncheckedIOException if the line could not be written
+   */
+  private void writeResolved(JsonGenerator generator, int index) {
+    try {
+      generator.writeStartObject();
+      generator.writeNumberField("resolved", index);
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+      generator.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Write the error message as the final line of JSON and flush it to the client.
+   *
+   * @param generator the generator to write to
+   * @param message the error message
+   * @throws IOException if the error could not be written
+   */
+  private void writeError(JsonGenerator generator, String message) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("error", message);
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+    generator.flush();
   }
 }
@@ -1,14 +1,25 @@
 package com.darrenswhite.rs.ironquest.dto;
 
+import com.darrenswhite.rs.ironquest.dto.PathDTO.Serializer;
 import com.darrenswhite.rs.ironquest.path.Path;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Data Transfer Object for {@link Path}.
  *
+ * The actions may be a view which creates each {@link ActionDTO} when it is accessed, so the
+ * actions are written to the {@link JsonGenerator} one at a time as they are iterated.
+ *
  * @author Darren S. White
+ * @see Path#createDTO()
  */
+@JsonSerialize(using = Serializer.class)
 public class PathDTO {
 
   private final List<ActionDTO> actions;
@@ -50,6 +61,31 @@ public class PathDTO {
     return Objects.hash(actions, stats);
   }
 
+  public static class Serializer extends JsonSerializer<PathDTO> {
+
+    @Override
+    public void serialize(PathDTO path, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject();
+      gen.writeFieldName("actions");
+
+      if (path.actions == null) {
+        gen.writeNull();
+      } else {
+        gen.writeStartArray();
+
+        for (ActionDTO action : path.actions) {
+          provider.defaultSerializeValue(action, gen);
+        }
+
+        gen.writeEndArray();
+      }
+
+      provider.defaultSerializeField("stats", path.stats, gen);
+      gen.writeEndObject();
+    }
+  }
+
   public static class Builder {
 
     private List<ActionDTO> actions;
@@ -44,6 +44,12 @@ public class PathFinderParametersDTO extends QuestParametersDTO {
    */
   private AlgorithmId algorithm = AlgorithmId.DEFAULT;
 
+  /**
+   * Toggle compact responses. Set to <tt>true</tt> to only include the change in player state for
+   * each action after the first; <tt>false</tt> otherwise.
+   */
+  private boolean compact;
+
   public boolean isIronman() {
     return ironman;
   }
@@ -83,4 +89,12 @@ public class PathFinderParametersDTO extends QuestParametersDTO {
   public void setAlgorithm(AlgorithmId algorithm) {
     this.algorithm = algorithm;
   }
+
+  public boolean isCompact() {
+    return compact;
+  }
+
+  public void setCompact(boolean compact) {
+    this.compact = compact;
+  }
 }
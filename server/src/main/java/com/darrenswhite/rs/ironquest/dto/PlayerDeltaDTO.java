@@ -0,0 +1,80 @@
+package com.darrenswhite.rs.ironquest.dto;
+
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the change in a {@link Player} since a previous {@link PlayerDTO}.
+ *
+ * The levels only contain the {@link Skill}s which changed, and each value is the change in level.
+ * The quest points, total level and combat level are also the change in value. Values which did
+ * not change are not serialized, and neither is the name.
+ *
+ * @author Darren S. White
+ */
+public class PlayerDeltaDTO extends PlayerDTO {
+
+  PlayerDeltaDTO(Builder builder) {
+    super(builder);
+  }
+
+  /**
+   * Create a {@link PlayerDeltaDTO} for the change from the previous to the current {@link
+   * PlayerDTO}.
+   *
+   * @param previous the previous player
+   * @param current the current player
+   * @return the delta
+   */
+  public static PlayerDeltaDTO between(PlayerDTO previous, PlayerDTO current) {
+    Map<Skill, Integer> levels = new EnumMap<>(Skill.class);
+
+    current.getLevels().forEach((skill, level) -> {
+      int delta = level - previous.getLevels().getOrDefault(skill, 0);
+
+      if (delta != 0) {
+        levels.put(skill, delta);
+      }
+    });
+
+    return new PlayerDeltaDTO(new Builder().setName(current.getName()).withLevels(levels)
+        .withQuestPoints(current.getQuestPoints() - previous.getQuestPoints())
+        .withTotalLevel(current.getTotalLevel() - previous.getTotalLevel())
+        .withCombatLevel(current.getCombatLevel() - previous.getCombatLevel()));
+  }
+
+  @JsonIgnore
+  @Override
+  public String getName() {
+    return super.getName();
+  }
+
+  @JsonInclude(Include.NON_EMPTY)
+  @Override
+  public Map<Skill, Integer> getLevels() {
+    return super.getLevels();
+  }
+
+  @JsonInclude(Include.NON_DEFAULT)
+  @Override
+  public int getQuestPoints() {
+    return super.getQuestPoints();
+  }
+
+  @JsonInclude(Include.NON_DEFAULT)
+  @Override
+  public int getTotalLevel() {
+    return super.getTotalLevel();
+  }
+
+  @JsonInclude(Include.NON_DEFAULT)
+  @Override
+  public int getCombatLevel() {
+    return super.getCombatLevel();
+  }
+}
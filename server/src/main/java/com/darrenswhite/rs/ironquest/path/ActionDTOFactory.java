@@ -0,0 +1,60 @@
+package com.darrenswhite.rs.ironquest.path;
+
+import com.darrenswhite.rs.ironquest.action.Action;
+import com.darrenswhite.rs.ironquest.dto.ActionDTO;
+import com.darrenswhite.rs.ironquest.dto.PlayerDTO;
+import com.darrenswhite.rs.ironquest.dto.PlayerDeltaDTO;
+
+/**
+ * Factory for creating {@link ActionDTO}s for a sequence of {@link Action}s in a {@link Path}.
+ *
+ * If compact, then each action after the first contains a {@link PlayerDeltaDTO} from the player
+ * of the previous action, instead of the full {@link PlayerDTO}.
+ *
+ * The player DTO of the last action is kept, so creating DTOs for consecutive actions creates each
+ * player DTO once.
+ *
+ * @author Darren S. White
+ */
+public class ActionDTOFactory {
+
+  private final boolean compact;
+  private Action lastAction;
+  private PlayerDTO lastPlayer;
+
+  public ActionDTOFactory(boolean compact) {
+    this.compact = compact;
+  }
+
+  /**
+   * Create the DTO for the {@link Action} which follows the last action a DTO was created for.
+   *
+   * @param action the action
+   * @return the DTO
+   */
+  public ActionDTO create(Action action) {
+    return create(action, lastAction);
+  }
+
+  /**
+   * Create the DTO for the {@link Action} which follows the previous action.
+   *
+   * @param action the action
+   * @param previous the previous action or <tt>null</tt> if this is the first action
+   * @return the DTO
+   */
+  public ActionDTO create(Action action, Action previous) {
+    PlayerDTO player = action.getPlayer().createDTO();
+    PlayerDTO previousPlayer = null;
+
+    if (compact && previous != null) {
+      previousPlayer = previous == lastAction ? lastPlayer : previous.getPlayer().createDTO();
+    }
+
+    lastAction = action;
+    lastPlayer = player;
+
+    return action.createDTO(
+        previousPlayer != null ? PlayerDeltaDTO.between(previousPlayer, player) : player);
+  }
+}
@@ -0,0 +1,162 @@
+package com.darrenswhite.rs.ironquest.path;
+
+import com.darrenswhite.rs.ironquest.action.LampAction;
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.reward.LampReward;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Future {@link LampAction}s waiting for their requirements to be met, indexed by the {@link Skill}
+ * levels which would unlock them.
+ *
+ * Each lamp is identified by its sequence number in the path. Each set of requirement skills for a
+ * lamp is watched on the first skill level which the {@link Player} does not meet. Skill levels
+ * only increase while finding a path, so a set of requirement skills is only tested again once its
+ * watched level is reached. A lamp is unlocked when any one of its sets of requirement skills is
+ * met.
+ *
+ * A set of requirement skills containing Invention is watched on {@link
+ * LampReward#INVENTION_SKILLS} before the Invention level, as they are also required to use
+ * Invention.
+ *
+ * @author Darren S. White
+ * @see LampReward#meetsRequirements(Player)
+ */
+class FutureLampActions {
+
+  private final Player player;
+  private final Map<Skill, PriorityQueue<Watch>> watches = new EnumMap<>(Skill.class);
+  private final Map<Long, LampAction> locked = new HashMap<>();
+  private final NavigableSet<Long> unlocked = new TreeSet<>();
+
+  FutureLampActions(Player player) {
+    this.player = player;
+
+    for (Skill skill : Skill.values()) {
+      watches.put(skill, new PriorityQueue<>(Comparator.comparingInt(w -> w.level)));
+    }
+  }
+
+  /**
+   * Add a future {@link LampAction} with the given sequence number.
+   *
+   * @param sequence the sequence number of the action in the path
+   * @param action the future lamp action
+   */
+  void add(long sequence, LampAction action) {
+    Map<Set<Skill>, Integer> requirements = action.getLampReward().getRequirements();
+
+    locked.put(sequence, action);
+
+    if (requirements.isEmpty()) {
+      unlock(sequence);
+    }
+
+    for (Entry<Set<Skill>, Integer> requirement : requirements.entrySet()) {
+      if (!locked.containsKey(sequence)) {
+        break;
+      }
+
+      watch(sequence, action, requirement.getKey(), requirement.getValue());
+    }
+  }
+
+  /**
+   * Remove and return the lowest sequence number greater than <tt>after</tt> of a {@link
+   * LampAction} whose requirements are met by the current levels of the {@link Player}.
+   *
+   * Only the sets of requirement skills whose watched level has been reached are tested.
+   *
+   * @param after the sequence number to find unlocked actions after
+   * @return the sequence number of the unlocked action; or <tt>null</tt> if there is none
+   */
+  Long pollUnlocked(long after) {
+    update();
+
+    Long sequence = unlocked.higher(after);
+
+    if (sequence != null) {
+      unlocked.remove(sequence);
+    }
+
+    return sequence;
+  }
+
+  /**
+   * Test the sets of requirement skills whose watched level has been reached by the {@link
+   * Player}.
+   */
+  private void update() {
+    for (Entry<Skill, PriorityQueue<Watch>> entry : watches.entrySet()) {
+      int level = player.getLevel(entry.getKey());
+      PriorityQueue<Watch> queue = entry.getValue();
+
+      while (!queue.isEmpty() && queue.peek().level <= level) {
+        Watch watch = queue.poll();
+
+        if (locked.get(watch.sequence) == watch.action) {
+          watch(watch.sequence, watch.action, watch.skills, watch.requiredLevel);
+        }
+      }
+    }
+  }
+
+  /**
+   * Unlock the {@link LampAction} if the set of requirement skills is met, otherwise watch the
+   * first skill level which is not met.
+   */
+  private void watch(long sequence, LampAction action, Set<Skill> skills, int requiredLevel) {
+    for (Skill skill : skills) {
+      if (skill == Skill.INVENTION) {
+        for (Skill inventionSkill : LampReward.INVENTION_SKILLS) {
+          if (player.getLevel(inventionSkill) < LampReward.INVENTION_SKILLS_LEVEL) {
+            watches.get(inventionSkill).add(new Watch(sequence, action, skills, requiredLevel,
+                LampReward.INVENTION_SKILLS_LEVEL));
+            return;
+          }
+        }
+      }
+
+      if (player.getLevel(skill) < requiredLevel) {
+        watches.get(skill).add(new Watch(sequence, action, skills, requiredLevel, requiredLevel));
+        return;
+      }
+    }
+
+    unlock(sequence);
+  }
+
+  private void unlock(long sequence) {
+    locked.remove(sequence);
+    unlocked.add(sequence);
+  }
+
+  /**
+   * A set of requirement skills for a {@link LampAction}, waiting for a {@link Skill} level.
+   */
+  private static final class Watch {
+
+    private final long sequence;
+    private final LampAction action;
+    private final Set<Skill> skills;
+    private final int requiredLevel;
+    private final int level;
+
+    Watch(long sequence, LampAction action, Set<Skill> skills, int requiredLevel, int level) {
+      this.sequence = sequence;
+      this.action = action;
+      this.skills = skills;
+      this.requiredLevel = requiredLevel;
+      this.level = level;
+    }
+  }
+}
@@ -3,10 +3,12 @@ package com.darrenswhite.rs.ironquest.path;
 import com.darrenswhite.rs.ironquest.action.Action;
 import com.darrenswhite.rs.ironquest.dto.ActionDTO;
 import com.darrenswhite.rs.ironquest.dto.PathDTO;
-import java.util.LinkedList;
+import com.darrenswhite.rs.ironquest.dto.PlayerDTO;
+import com.darrenswhite.rs.ironquest.dto.PlayerDeltaDTO;
+import java.util.AbstractSequentialList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Class encapsulating a {@link List} of {@link Action}s and {@link PathStats}.
@@ -45,12 +47,28 @@ public class Path {
    * Returns a DTO for this {@link Path}.
    *
    * @return the DTO
+   * @see Path#createDTO(boolean)
    */
   public PathDTO createDTO() {
-    List<ActionDTO> actionDTOs = getActions().stream().map(Action::createDTO)
-        .collect(Collectors.toCollection(LinkedList::new));
+    return createDTO(false);
+  }
 
-    return new PathDTO.Builder().withActions(actionDTOs).withStats(getStats().createDTO()).build();
+  /**
+   * Returns a DTO for this {@link Path}.
+   *
+   * The action DTOs are not created up front. Each one is created from its {@link Action} when the
+   * DTO actions are iterated, so serializing the DTO only holds one action DTO at a time.
+   *
+   * If compact, then only the first action contains the full {@link PlayerDTO}. Each subsequent
+   * action contains a {@link PlayerDeltaDTO} from the player of the previous action.
+   *
+   * @param compact <tt>true</tt> to create player deltas; <tt>false</tt> otherwise
+   * @return the DTO
+   * @see ActionDTOFactory
+   */
+  public PathDTO createDTO(boolean compact) {
+    return new PathDTO.Builder().withActions(new ActionDTOs(getActions(), compact))
+        .withStats(getStats().createDTO()).build();
   }
 
   /**
@@ -75,4 +93,94 @@ public class Path {
   public final int hashCode() {
     return Objects.hash(actions, stats);
   }
+
+  /**
+   * An unmodifiable {@link List} view of {@link ActionDTO}s, which creates each DTO from its
+   * {@link Action} when it is accessed.
+   */
+  private static final class ActionDTOs extends AbstractSequentialList<ActionDTO> {
+
+    private final List<Action> actions;
+    private final boolean compact;
+
+    ActionDTOs(List<Action> actions, boolean compact) {
+      this.actions = actions;
+      this.compact = compact;
+    }
+
+    @Override
+    public ListIterator<ActionDTO> listIterator(int index) {
+      ListIterator<Action> iterator = actions.listIterator(index);
+      ActionDTOFactory factory = new ActionDTOFactory(compact);
+
+      return new ListIterator<>() {
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public ActionDTO next() {
+          Action previous = compact ? peekPrevious() : null;
+
+          return factory.create(iterator.next(), previous);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+          return iterator.hasPrevious();
+        }
+
+        @Override
+        public ActionDTO previous() {
+          Action action = iterator.previous();
+
+          return factory.create(action, compact ? peekPrevious() : null);
+        }
+
+        @Override
+        public int nextIndex() {
+          return iterator.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+          return iterator.previousIndex();
+        }
+
+        @Override
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(ActionDTO actionDTO) {
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(ActionDTO actionDTO) {
+          throw new UnsupportedOperationException();
+        }
+
+        private Action peekPrevious() {
+          if (!iterator.hasPrevious()) {
+            return null;
+          }
+
+          Action previous = iterator.previous();
+
+          iterator.next();
+
+          return previous;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return actions.size();
+    }
+  }
 }
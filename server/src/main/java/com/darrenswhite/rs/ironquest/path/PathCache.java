@@ -0,0 +1,211 @@
+package com.darrenswhite.rs.ironquest.path;
+
+import com.darrenswhite.rs.ironquest.action.Action;
+import com.darrenswhite.rs.ironquest.dto.PathFinderParametersDTO;
+import com.darrenswhite.rs.ironquest.path.algorithm.AlgorithmId;
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.QuestPriority;
+import com.darrenswhite.rs.ironquest.player.QuestStatus;
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.QuestAccessFilter;
+import com.darrenswhite.rs.ironquest.quest.QuestGraph;
+import com.darrenswhite.rs.ironquest.quest.QuestTypeFilter;
+import com.darrenswhite.rs.ironquest.quest.QuestsReloadedEvent;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Component} for caching previously found {@link Path}s.
+ *
+ * Paths are keyed by the normalized {@link PathFinderParametersDTO} and the loaded state of the
+ * {@link Player}, so that identical requests for a player who has not made any progress can be
+ * served without finding the path again. The least recently used paths are evicted when the cache
+ * holds more than the maximum number of paths, or more than the maximum number of actions in
+ * total.
+ *
+ * Paths are cached rather than their DTOs, so that a cached path can be used to create both compact
+ * and full responses. Each {@link Action} retains a snapshot of the {@link Player}, so the memory
+ * used by a path grows with its number of actions: a path for a new player of around 650 actions
+ * retains around 650 KiB, or around 1 KiB per action. The cache is therefore bounded by the total
+ * number of actions, which bounds its memory regardless of the length of the cached paths.
+ *
+ * Paths are also keyed by the {@link QuestGraph} of the player, and all paths are removed when the
+ * quests are reloaded, so paths found for previous quest data are never returned.
+ *
+ * @author Darren S. White
+ */
+@Component
+public class PathCache {
+
+  private final Map<Key, Path> paths = new LinkedHashMap<>(16, 0.75f, true);
+  private final int size;
+  private final int actions;
+  private int cachedActions;
+
+  /**
+   * Create a new {@link PathCache}.
+   *
+   * @param size the maximum number of paths
+   * @param actions the maximum number of actions of all paths
+   */
+  public PathCache(@Value("${path.cache.size}") int size,
+      @Value("${path.cache.actions}") int actions) {
+    this.size = size;
+    this.actions = actions;
+  }
+
+  /**
+   * Create a {@link Key} for the specified parameters and the current state of the {@link
+   * Player}.
+   *
+   * The key must be created before the path is found, as finding the path modifies the player.
+   *
+   * @param parameters the path finder parameters
+   * @param player the loaded player
+   * @return the key
+   */
+  public Key createKey(PathFinderParametersDTO parameters, Player player) {
+    return new Key(parameters, player);
+  }
+
+  /**
+   * Returns the cached {@link Path} for the specified {@link Key}.
+   *
+   * @param key the key
+   * @return the cached path if present
+   */
+  public synchronized Optional<Path> get(Key key) {
+    return Optional.ofNullable(paths.get(key));
+  }
+
+  /**
+   * Cache the {@link Path} for the specified {@link Key}, evicting the least recently used paths
+   * until the cache is within its bounds.
+   *
+   * A path with more actions than the maximum number of actions is not cached.
+   *
+   * @param key the key
+   * @param path the path
+   */
+  public synchronized void put(Key key, Path path) {
+    int weight = path.getActions().size();
+
+    if (weight > actions) {
+      return;
+    }
+
+    Path previous = paths.put(key, path);
+
+    if (previous != null) {
+      cachedActions -= previous.getActions().size();
+    }
+
+    cachedActions += weight;
+
+    Iterator<Path> iterator = paths.values().iterator();
+
+    while (paths.size() > size || cachedActions > actions) {
+      cachedActions -= iterator.next().getActions().size();
+      iterator.remove();
+    }
+  }
+
+  /**
+   * Remove all cached paths when the quests are reloaded.
+   *
+   * @param event the reload event
+   */
+  @EventListener
+  public synchronized void onQuestsReloaded(QuestsReloadedEvent event) {
+    paths.clear();
+    cachedActions = 0;
+  }
+
+  /**
+   * Key for a cached {@link Path}.
+   *
+   * Quest priorities are normalized by ignoring {@link QuestPriority#NORMAL} priorities, which is
+   * the default for every quest.
+   */
+  public static final class Key {
+
+    private final String name;
+    private final QuestAccessFilter accessFilter;
+    private final QuestTypeFilter typeFilter;
+    private final boolean ironman;
+    private final boolean recommended;
+    private final List<Skill> lampSkills;
+    private final Map<Integer, QuestPriority> questPriorities;
+    private final AlgorithmId algorithm;
+    private final Map<Skill, Double> skillXps;
+    private final Map<Integer, QuestStatus> questStatuses;
+    private final QuestGraph questGraph;
+    private final int hashCode;
+
+    Key(PathFinderParametersDTO parameters, Player player) {
+      this.name = parameters.getName();
+      this.accessFilter = parameters.getAccessFilter();
+      this.typeFilter = parameters.getTypeFilter();
+      this.ironman = parameters.isIronman();
+      this.recommended = parameters.isRecommended();
+      this.lampSkills = new ArrayList<>(parameters.getLampSkills());
+      this.questPriorities = new TreeMap<>();
+      this.algorithm = parameters.getAlgorithm();
+      this.skillXps = player.getSkillXps();
+      this.questStatuses = new TreeMap<>();
+      this.questGraph = player.getQuestGraph();
+
+      parameters.getQuestPriorities().forEach((id, priority) -> {
+        if (priority != QuestPriority.NORMAL) {
+          questPriorities.put(id, priority);
+        }
+      });
+
+      for (Quest quest : player.getQuests()) {
+        questStatuses.put(quest.getId(), player.getQuestStatus(quest));
+      }
+
+      this.hashCode = Objects
+          .hash(name, accessFilter, typeFilter, ironman, recommended, lampSkills, questPriorities,
+              algorithm, skillXps, questStatuses, System.identityHashCode(questGraph));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return hashCode == key.hashCode && ironman == key.ironman && recommended == key.recommended
+          && Objects.equals(name, key.name) && accessFilter == key.accessFilter
+          && typeFilter == key.typeFilter && Objects.equals(lampSkills, key.lampSkills)
+          && Objects.equals(questPriorities, key.questPriorities) && algorithm == key.algorithm
+          && Objects.equals(skillXps, key.skillXps) && Objects
+          .equals(questStatuses, key.questStatuses) && questGraph == key.questGraph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -6,9 +6,11 @@ import com.darrenswhite.rs.ironquest.path.algorithm.DefaultAlgorithm;
 import com.darrenswhite.rs.ironquest.path.algorithm.PathFinderAlgorithm;
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.quest.Quest;
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -33,6 +35,18 @@ public class PathFinder {
     this.algorithm = algorithm;
   }
 
+  /**
+   * Find the optimal {@link Path} for the specified {@link Player} and the given {@link
+   * PathFinderAlgorithm}.
+   *
+   * @return the optimal path
+   * @throws QuestNotFoundException if the optimal quest can not be found
+   * @see PathFinder#find(PathListener)
+   */
+  public Path find() throws QuestNotFoundException {
+    return find(PathListener.NONE);
+  }
+
   /**
    * Find the optimal {@link Path} for the specified {@link Player} and the given {@link
    * PathFinderAlgorithm}.
@@ -45,36 +59,79 @@ public class PathFinder {
    * If there are any actions which can not be completed after all quests are completed, these are
    * added as future actions.
    *
+   * Each {@link Action} is passed to the listener as soon as it is added to the path. A future
+   * action which is processed once its requirements are met is resolved, and the processed action
+   * is added to the end of the path.
+   *
+   * If the current thread is interrupted, then finding the path stops before the next quest.
+   *
    * The default algorithm is used which is implemented by {@link DefaultAlgorithm}.
    *
+   * @param listener the listener to pass each action to
    * @return the optimal path
    * @throws QuestNotFoundException if the optimal quest can not be found
+   * @throws CancellationException if the current thread is interrupted
+   * @see PathListener
    */
-  public Path find() throws QuestNotFoundException {
+  public Path find(PathListener listener) throws QuestNotFoundException {
     LOG.debug("Finding optimal quest path for player: {}", player.getName());
 
-    List<Action> actions = new LinkedList<>();
+    List<Action> actions = new ArrayList<>();
+    FutureLampActions futureActions = new FutureLampActions(player);
     PathStats stats = createStats(player);
     QuestIterator iterator = new QuestIterator(player, algorithm);
 
     completePlaceholderQuests(player);
 
     while (iterator.hasNext()) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new CancellationException(
+            "Cancelled finding quest path for player: " + player.getName());
+      }
+
       Quest next = iterator.next();
 
-      actions.addAll(completeQuest(player, next));
-      processFutureActions(player, actions);
+      addActions(actions, futureActions, listener, completeQuest(player, next));
+      processFutureActions(player, actions, futureActions, listener);
     }
 
     if (!player.getIncompleteQuests().isEmpty()) {
       throw new QuestNotFoundException("Unable to find next quest for player: " + player.getName());
     }
 
-    processFutureActions(player, actions);
+    processFutureActions(player, actions, futureActions, listener);
+    actions.removeIf(Objects::isNull);
 
     return new Path(actions, stats);
   }
 
+  /**
+   * Add {@link Action}s to the end of the path, and pass each one to the listener. Future {@link
+   * LampAction}s are also added to the future actions, with their index in the path as the
+   * sequence number.
+   *
+   * Only lamp actions are created as future actions.
+   *
+   * @param actions the actions in the path, with resolved future actions set to <tt>null</tt>
+   * @param futureActions the future lamp actions
+   * @param listener the listener to pass each action to
+   * @param newActions the actions to add
+   */
+  private void addActions(List<Action> actions, FutureLampActions futureActions,
+      PathListener listener, List<Action> newActions) {
+    for (Action action : newActions) {
+      int index = actions.size();
+
+      actions.add(action);
+
+      if (action.isFuture()) {
+        futureActions.add(index, (LampAction) action);
+      }
+
+      listener.onAction(index, action);
+    }
+  }
+
   /**
    * Create {@link PathStats} for the specified {@link Player}.
    *
@@ -121,34 +178,37 @@ public class PathFinder {
 
   /**
    * Process all future actions if the requirements are met. Any actions which are processed are
-   * removed from the <tt>actions</tt> list, copied for the player and added to the end of the
-   * list.
+   * resolved and removed from the path, then copied for the player and added to the end of the
+   * path.
+   *
+   * Future actions are processed in sequence order. An action which is unlocked by processing a
+   * later action is not processed until the next call, as its position has already been passed.
    *
    * @param player the player
-   * @param actions the actions
+   * @param actions the actions in the path, with resolved future actions set to <tt>null</tt>
+   * @param futureActions the future lamp actions
+   * @param listener the listener to pass each action to
    */
-  private void processFutureActions(Player player, List<Action> actions) {
+  private void processFutureActions(Player player, List<Action> actions,
+      FutureLampActions futureActions, PathListener listener) {
     List<Action> processedActions = new LinkedList<>();
+    long after = -1;
+    Long sequence;
 
-    for (Iterator<Action> iterator = actions.iterator(); iterator.hasNext(); ) {
-      Action action = iterator.next();
+    while ((sequence = futureActions.pollUnlocked(after)) != null) {
+      int index = Math.toIntExact(sequence);
+      LampAction lampAction = (LampAction) actions.set(index, null);
+      Action action = player.createLampAction(lampAction.getQuest(), lampAction.getLampReward());
 
-      if (action.isFuture() && action.meetsRequirements(player)) {
-        if (action instanceof LampAction) {
-          LampAction lampAction = (LampAction) action;
+      LOG.debug("Processing future action: {}", action);
 
-          action = player.createLampAction(lampAction.getQuest(), lampAction.getLampReward());
-        }
-
-        LOG.debug("Processing future action: {}", action);
-
-        action.process(player);
-        processedActions.add(action.copyForPlayer(player));
-        iterator.remove();
-      }
+      listener.onResolved(index);
+      action.process(player);
+      processedActions.add(action.copyForPlayer(player));
+      after = sequence;
     }
 
-    actions.addAll(processedActions);
+    addActions(actions, futureActions, listener, processedActions);
   }
 
   /**
@@ -1,5 +1,6 @@
 package com.darrenswhite.rs.ironquest.path;
 
+import com.darrenswhite.rs.ironquest.action.Action;
 import com.darrenswhite.rs.ironquest.path.algorithm.AlgorithmFactory;
 import com.darrenswhite.rs.ironquest.path.algorithm.AlgorithmId;
 import com.darrenswhite.rs.ironquest.path.algorithm.PathFinderAlgorithm;
@@ -33,6 +34,25 @@ public class PathFinderService {
     return new PathFinder(player, algorithm).find();
   }
 
+  /**
+   * Find the optimal {@link Path} for the specified {@link Player} using the given algorithm,
+   * passing each {@link Action} to the listener as soon as it is added to the path.
+   *
+   * @param player the player
+   * @param id the id of the algorithm to use
+   * @param listener the listener to pass each action to
+   * @return the optimal path
+   * @throws QuestNotFoundException if the optimal quest can not be found
+   * @see PathFinder#find(PathListener)
+   * @see AlgorithmFactory#getAlgorithm(AlgorithmId)
+   */
+  public Path find(Player player, AlgorithmId id, PathListener listener)
+      throws QuestNotFoundException {
+    PathFinderAlgorithm algorithm = createAlgorithm(id);
+
+    return new PathFinder(player, algorithm).find(listener);
+  }
+
   /**
    * Get the {@link PathFinderAlgorithm} for the given id.
    *
@@ -0,0 +1,48 @@
+package com.darrenswhite.rs.ironquest.path;
+
+import com.darrenswhite.rs.ironquest.action.Action;
+import com.darrenswhite.rs.ironquest.action.LampAction;
+
+/**
+ * Listener for the {@link Action}s of a {@link Path} while it is being found.
+ *
+ * Each action is passed as soon as it is added to the end of the path, with an index which counts
+ * the actions passed before it. A future {@link LampAction} is passed in its position when it is
+ * added. If its requirements are met later, it is resolved: the future action is removed from the
+ * path and the processed lamp action is added to the end of the path.
+ *
+ * The path is therefore every action passed, in index order, without the resolved actions.
+ *
+ * @author Darren S. White
+ */
+public interface PathListener {
+
+  /**
+   * A listener which ignores all actions.
+   */
+  PathListener NONE = new PathListener() {
+    @Override
+    public void onAction(int index, Action action) {
+    }
+
+    @Override
+    public void onResolved(int index) {
+    }
+  };
+
+  /**
+   * Called when an {@link Action} is added to the end of the path.
+   *
+   * @param index the index of the action
+   * @param action the action
+   */
+  void onAction(int index, Action action);
+
+  /**
+   * Called when a future {@link LampAction} is resolved and removed from the path. The processed
+   * lamp action is passed to {@link PathListener#onAction(int, Action)} afterwards.
+   *
+   * @param index the index of the future action
+   */
+  void onResolved(int index);
+}
@@ -8,24 +8,43 @@ import com.darrenswhite.rs.ironquest.quest.requirement.CombatRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.QuestPointsRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Interface used to iterate a {@link Collection} of {@link Quest}s in optimal order.
  *
+ * The set of {@link Quest}s which can currently be started is maintained incrementally. Quests
+ * which are blocked are only re-evaluated when the input they are blocked on changes: the
+ * completion of a required {@link Quest}, an increase in quest points or an increase in combat
+ * level.
+ *
  * @author Darren S. White
  */
 public class QuestIterator implements Iterator<Quest> {
 
   private final Player player;
-  private final PathFinderAlgorithm algorithm;
+  private final Comparator<Quest> comparator;
+  private final Set<Quest> candidates = new HashSet<>();
+  private final Map<Quest, Set<Quest>> questBlocked = new HashMap<>();
+  private final Set<Quest> questPointsBlocked = new HashSet<>();
+  private final Set<Quest> combatBlocked = new HashSet<>();
 
+  private boolean initialised;
+  private int questPoints;
+  private double combatLevel;
   private Quest next;
 
   public QuestIterator(Player player, PathFinderAlgorithm algorithm) {
     this.player = player;
-    this.algorithm = algorithm;
+    this.comparator = algorithm.getQuestComparator(player);
   }
 
   /**
@@ -58,9 +77,94 @@ public class QuestIterator implements Iterator<Quest> {
    * {@link Quest}s are compared using the given algorithm.
    */
   private Quest find() {
-    return player.getIncompleteQuests().stream().filter(
-        quest -> quest.meetsCombatRequirement(player) && quest.meetsQuestPointRequirement(player)
-            && quest.meetsQuestRequirements(player)).max(algorithm.getQuestComparator(player))
-        .orElse(null);
+    if (initialised) {
+      update();
+    } else {
+      initialise();
+    }
+
+    return candidates.stream().max(comparator).orElse(null);
+  }
+
+  /**
+   * Evaluate all incomplete {@link Quest}s for the {@link Player}.
+   *
+   * This is deferred until the first call to {@link QuestIterator#hasNext()} so that any changes
+   * made to the player after creating this iterator are included.
+   */
+  private void initialise() {
+    questPoints = player.getQuestPoints();
+    combatLevel = player.getCombatLevel();
+
+    player.getIncompleteQuests().forEach(this::evaluate);
+
+    initialised = true;
+  }
+
+  /**
+   * Remove completed {@link Quest}s from the candidates and re-evaluate any {@link Quest}s which
+   * were blocked on inputs that have since changed.
+   */
+  private void update() {
+    List<Quest> changed = new LinkedList<>();
+
+    for (Iterator<Quest> iterator = candidates.iterator(); iterator.hasNext(); ) {
+      Quest candidate = iterator.next();
+
+      if (player.isQuestCompleted(candidate)) {
+        iterator.remove();
+
+        Set<Quest> dependents = questBlocked.remove(candidate);
+
+        if (dependents != null) {
+          changed.addAll(dependents);
+        }
+      }
+    }
+
+    int newQuestPoints = player.getQuestPoints();
+
+    if (newQuestPoints > questPoints) {
+      questPoints = newQuestPoints;
+      changed.addAll(questPointsBlocked);
+      questPointsBlocked.clear();
+    }
+
+    double newCombatLevel = player.getCombatLevel();
+
+    if (newCombatLevel > combatLevel) {
+      combatLevel = newCombatLevel;
+      changed.addAll(combatBlocked);
+      combatBlocked.clear();
+    }
+
+    changed.forEach(this::evaluate);
+  }
+
+  /**
+   * Add the {@link Quest} to the candidates if all requirements needed to start it are met,
+   * otherwise index it by the first requirement which is not met.
+   *
+   * @param quest the quest to evaluate
+   */
+  private void evaluate(Quest quest) {
+    if (player.isQuestCompleted(quest)) {
+      return;
+    }
+
+    if (!quest.meetsCombatRequirement(player)) {
+      combatBlocked.add(quest);
+    } else if (!quest.meetsQuestPointRequirement(player)) {
+      questPointsBlocked.add(quest);
+    } else {
+      QuestRequirement blocking = quest.getRequirements().getQuests().stream()
+          .filter(qr -> !qr.test(player)).findFirst().orElse(null);
+
+      if (blocking != null) {
+        questBlocked.computeIfAbsent(blocking.getQuest(), q -> new HashSet<>()).add(quest);
+      } else {
+        candidates.add(quest);
+      }
+    }
   }
 }
@@ -5,12 +5,17 @@ import com.darrenswhite.rs.ironquest.player.QuestPriority;
 import com.darrenswhite.rs.ironquest.quest.Quest;
 import com.darrenswhite.rs.ironquest.quest.requirement.SkillRequirement;
 import com.darrenswhite.rs.ironquest.quest.reward.QuestRewards;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Set;
 import java.util.function.BiFunction;
 
 /**
  * Convenient class for common {@link Comparator<Quest>} variants.
+ *
+ * Comparators which derive their keys from the {@link Player} state calculate the key for each
+ * {@link Quest} at most once per player state.
+ *
+ * @see PlayerStateCache
  */
 public class Comparators {
 
@@ -36,17 +41,19 @@ public class Comparators {
    * </ul>
    *
    * @return a comparator that compares by no requirements and maximum/high priority
-   * @see Player#getRemainingSkillRequirements(Quest, boolean)
+   * @see Player#getRemainingSkillLevels(Quest, boolean)
    * @see QuestPriority#greaterThanNormal()
    */
   static Comparator<Quest> noSkillRequirementsAndGreaterThanNormalPriority(Player player) {
-    return Comparator.comparing((Quest quest) -> {
-      Set<SkillRequirement> remainingSkillRequirements = player
-          .getRemainingSkillRequirements(quest, true);
-      QuestPriority priority = player.getQuestPriority(quest);
+    PlayerStateCache<Boolean> cache = new PlayerStateCache<>(player);
 
-      return remainingSkillRequirements.isEmpty() && priority.greaterThanNormal();
-    });
+    return Comparator.comparing((Quest quest) -> cache.get(quest, q -> {
+      boolean noRemainingSkillRequirements = Arrays
+          .stream(player.getRemainingSkillLevels(q, true)).allMatch(level -> level == 0);
+      QuestPriority priority = player.getQuestPriority(q);
+
+      return noRemainingSkillRequirements && priority.greaterThanNormal();
+    }));
   }
 
   /**
@@ -58,9 +65,10 @@ public class Comparators {
    * @see Player#getTotalRemainingSkillRequirements(Quest, boolean)
    */
   static Comparator<Quest> remainingSkillRequirements(Player player) {
-    return Comparator
-        .comparing((Quest quest) -> player.getTotalRemainingSkillRequirements(quest, true))
-        .reversed();
+    PlayerStateCache<Double> cache = new PlayerStateCache<>(player);
+
+    return Comparator.comparing((Quest quest) -> cache
+        .get(quest, q -> player.getTotalRemainingSkillRequirements(q, true))).reversed();
   }
 
   /**
@@ -71,7 +79,9 @@ public class Comparators {
    * @see Player#getTotalQuestRewards(Quest)
    */
   static Comparator<Quest> rewards(Player player) {
-    return Comparator.comparing(player::getTotalQuestRewards);
+    PlayerStateCache<Double> cache = new PlayerStateCache<>(player);
+
+    return Comparator.comparing((Quest quest) -> cache.get(quest, player::getTotalQuestRewards));
   }
 
   /**
@@ -82,6 +92,9 @@ public class Comparators {
    */
   static Comparator<Quest> scoring(Player player,
       BiFunction<Player, Quest, Double> scoringFunction) {
-    return Comparator.comparingDouble(quest -> scoringFunction.apply(player, quest));
+    PlayerStateCache<Double> cache = new PlayerStateCache<>(player);
+
+    return Comparator
+        .comparingDouble(quest -> cache.get(quest, q -> scoringFunction.apply(player, q)));
   }
 }
@@ -0,0 +1,54 @@
+package com.darrenswhite.rs.ironquest.path.algorithm;
+
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache of values calculated for a {@link Quest} from the current state of a {@link Player}.
+ *
+ * Values are keyed by {@link Quest} id and are discarded whenever the player state version
+ * changes, so each value is calculated at most once per player state.
+ *
+ * @param <V> the type of cached value
+ * @author Darren S. White
+ * @see Player#getVersion()
+ */
+class PlayerStateCache<V> {
+
+  private final Player player;
+  private final Map<Integer, V> values = new HashMap<>();
+
+  private long version;
+
+  PlayerStateCache(Player player) {
+    this.player = player;
+    this.version = player.getVersion();
+  }
+
+  /**
+   * Returns the cached value for the specified {@link Quest}, calculating it with the given
+   * function if there is no value for the current player state.
+   *
+   * @param quest the quest
+   * @param function the function used to calculate the value
+   * @return the cached value
+   */
+  V get(Quest quest, Function<Quest, V> function) {
+    if (version != player.getVersion()) {
+      values.clear();
+      version = player.getVersion();
+    }
+
+    V value = values.get(quest.getId());
+
+    if (value == null) {
+      value = function.apply(quest);
+      values.put(quest.getId(), value);
+    }
+
+    return value;
+  }
+}
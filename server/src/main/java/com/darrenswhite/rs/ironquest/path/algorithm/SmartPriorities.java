@@ -8,6 +8,7 @@ import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.SkillRequirement;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -22,6 +23,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class SmartPriorities extends PathFinderAlgorithm {
 
+  private static final Skill[] SKILLS = Skill.values();
+
   /**
    * {@inheritDoc}
    */
@@ -37,13 +40,16 @@ public class SmartPriorities extends PathFinderAlgorithm {
    *
    * @see Comparators#noSkillRequirementsAndGreaterThanNormalPriority(Player)
    * @see Comparators#scoring(Player, BiFunction)
-   * @see SmartPriorities#getQuestScore(Player, Quest)
+   * @see SmartPriorities#getQuestScore(Player, Quest, PlayerStateCache)
    */
   @Override
   protected Comparator<Quest> comparator(Player player) {
+    PlayerStateCache<Set<Skill>> goalSkills = new PlayerStateCache<>(player);
+
     return Comparators.noSkillRequirementsAndGreaterThanNormalPriority(player)
         .thenComparing(Comparators.remainingSkillRequirements(player))
-        .thenComparing(Comparators.scoring(player, this::getQuestScore))
+        .thenComparing(
+            Comparators.scoring(player, (p, quest) -> getQuestScore(p, quest, goalSkills)))
         .thenComparing(Comparators.rewards(player));
   }
 
@@ -60,17 +66,20 @@ public class SmartPriorities extends PathFinderAlgorithm {
    *
    * @param player the player
    * @param quest the quest to calculate the score for
+   * @param goalSkills cache of the skills remaining for each goal
    * @return the quest score
    * @see Player#getPrioritisedQuests()
-   * @see SmartPriorities#getXpGainedTowardsGoal(Player, Quest, Quest)
+   * @see SmartPriorities#getXpGainedTowardsGoal(Map, Set)
    * @see QuestPriority#getWeight()
    */
-  private double getQuestScore(Player player, Quest quest) {
-    if (player.getPrioritisedQuests().isEmpty()) {
+  private double getQuestScore(Player player, Quest quest,
+      PlayerStateCache<Set<Skill>> goalSkills) {
+    Set<Quest> prioritisedQuests = player.getPrioritisedQuests();
+
+    if (prioritisedQuests.isEmpty()) {
       return 0;
     }
 
-    Set<Quest> prioritisedQuests = player.getPrioritisedQuests();
     Set<Quest> priorityRequirements = prioritisedQuests.stream().map(
         q -> q.getQuestRequirements(true).stream().map(QuestRequirement::getQuest)
             .collect(Collectors.toSet())).flatMap(Collection::parallelStream)
@@ -78,25 +87,43 @@ public class SmartPriorities extends PathFinderAlgorithm {
     Set<Quest> goal = Set.of(prioritisedQuests, priorityRequirements).stream()
         .flatMap(Collection::parallelStream).collect(Collectors.toSet());
 
-    return goal.stream().mapToDouble(
-        priorityQuest -> getXpGainedTowardsGoal(player, quest, priorityQuest) * player
-            .getQuestPriority(priorityQuest).getWeight()).sum();
+    Map<Skill, Double> questRewards = player.getQuestRewards(quest);
+
+    return goal.stream().mapToDouble(priorityQuest -> getXpGainedTowardsGoal(questRewards,
+        goalSkills.get(priorityQuest, q -> getRemainingSkills(player, q))) * player
+        .getQuestPriority(priorityQuest).getWeight()).sum();
   }
 
   /**
-   * Calculates the total xp gained from the given {@link Quest} which is also a {@link
-   * SkillRequirement} for the specified goal.
+   * Returns the {@link Skill}s of the remaining {@link SkillRequirement}s for the specified goal.
    *
    * @param player the player
-   * @param quest the quest to calculate the amount of xp gained for
    * @param goal the goal to reach
-   * @return the amount of xp gained towards the goal
+   * @return the skills required for the goal
    */
-  private double getXpGainedTowardsGoal(Player player, Quest quest, Quest goal) {
-    Set<Skill> skillRequirements = player.getRemainingSkillRequirements(goal, true).stream()
-        .map(SkillRequirement::getSkill).collect(Collectors.toSet());
-    Map<Skill, Double> questRewards = player.getQuestRewards(quest);
+  private Set<Skill> getRemainingSkills(Player player, Quest goal) {
+    int[] remainingLevels = player.getRemainingSkillLevels(goal, true);
+    Set<Skill> skills = EnumSet.noneOf(Skill.class);
 
+    for (Skill skill : SKILLS) {
+      if (remainingLevels[skill.ordinal()] > 0) {
+        skills.add(skill);
+      }
+    }
+
+    return skills;
+  }
+
+  /**
+   * Calculates the total xp gained from the given {@link Quest} rewards which is also a {@link
+   * SkillRequirement} for a goal.
+   *
+   * @param questRewards the rewards of the quest to calculate the amount of xp gained for
+   * @param skillRequirements the skills required for the goal
+   * @return the amount of xp gained towards the goal
+   */
+  private double getXpGainedTowardsGoal(Map<Skill, Double> questRewards,
+      Set<Skill> skillRequirements) {
     return skillRequirements.stream().mapToDouble(skill -> questRewards.getOrDefault(skill, 0d))
         .sum();
   }
@@ -1,26 +1,20 @@
 package com.darrenswhite.rs.ironquest.player;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
 import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -41,81 +35,108 @@ public class HiscoreService {
   private static final int ROW_OFFSET = 1;
 
   private final String url;
+  private final UpstreamClient upstreamClient;
+  private final PlayerDataCache<Map<Skill, Double>> cache;
 
-  public HiscoreService(@Value("${hiscores.url}") String url) {
+  /**
+   * Create a new {@link HiscoreService} which does not cache skill data.
+   *
+   * @param url the hiscores url format
+   */
+  public HiscoreService(String url) {
+    this(url, new UpstreamClient(), Duration.ZERO, Duration.ZERO, 0, new PlayerLoadExecutor());
+  }
+
+  /**
+   * Create a new {@link HiscoreService} which caches skill data.
+   *
+   * @param url the hiscores url format
+   * @param upstreamClient the client used to read the hiscores
+   * @param ttl the time skill data is fresh for
+   * @param stale the time stale skill data is used for while it is reloaded
+   * @param size the maximum number of players to cache skill data for
+   * @param loadExecutor the executor used to reload stale data
+   * @see PlayerDataCache
+   */
+  @Autowired
+  public HiscoreService(@Value("${hiscores.url}") String url, UpstreamClient upstreamClient,
+      @Value("${player.cache.ttl}") Duration ttl, @Value("${player.cache.stale}") Duration stale,
+      @Value("${player.cache.size}") int size, PlayerLoadExecutor loadExecutor) {
     this.url = url;
+    this.upstreamClient = upstreamClient;
+    this.cache = new PlayerDataCache<>(ttl, stale, size, loadExecutor::execute);
   }
 
   /**
    * Retrieve skill xp data for the given username.
    *
+   * Skill data is cached, and concurrent requests for the same player share a single request to
+   * the hiscores.
+   *
    * @param name the username
    * @return map of xp for each skill
    */
   public Map<Skill, Double> load(String name) {
-    Map<Skill, Double> skillXps = new EnumMap<>(Skill.class);
-
     LOG.debug("Loading hiscores for player: {}...", name);
 
     try {
-      String hiscoresUrl = String
-          .format(url, URLEncoder.encode(name, StandardCharsets.UTF_8.toString()));
-
-      URI uri = URI.create(hiscoresUrl);
-      Reader reader;
-
-      if ("http".equalsIgnoreCase(uri.getScheme())
-          || "https".equalsIgnoreCase(uri.getScheme())) {
-        HttpClient client = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
-
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(uri)
-            .timeout(Duration.ofSeconds(10))
-            .GET()
-            .build();
-
-        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-        reader = new InputStreamReader(response.body());
-      } else {
-        Path path = Path.of(uri);
-        reader = Files.newBufferedReader(path);
-      }
+      return cache.get(name, this::fetch);
+    } catch (IOException e) {
+      LOG.warn("Failed to load hiscores for player: {}", name, e);
+    }
 
-      try (Reader in = reader) {
-        CSVParser parser = CSV_FORMAT.parse(in);
-        List<CSVRecord> records = parser.getRecords();
-
-        for (int i = ROW_OFFSET; i < Skill.values().length + 1; i++) {
-          Skill skill = Skill.getById(i);
-
-          if (skill == null) {
-            LOG.warn("Unknown skill with id: {}", i);
-            continue;
-          }
-
-          if (records.size() <= i) {
-            LOG.warn("Missing hiscore data for skill: {}", skill);
-            continue;
-          }
-
-          try {
-            CSVRecord r = records.get(i);
-            double xp = Math.max(Skill.INITIAL_XPS.get(skill), Double.parseDouble(r.get(2)));
-            skillXps.put(skill, xp);
-          } catch (IndexOutOfBoundsException | NumberFormatException e) {
-            LOG.warn("Malformed hiscore data for skill: {}", skill, e);
-          }
+    return new EnumMap<>(Skill.class);
+  }
+
+  /**
+   * Fetch skill xp data for the given username from the hiscores.
+   *
+   * @param name the username
+   * @return map of xp for each skill
+   * @throws IOException if the hiscores could not be read
+   */
+  private Map<Skill, Double> fetch(String name) throws IOException {
+    Map<Skill, Double> skillXps = new EnumMap<>(Skill.class);
+    String hiscoresUrl = String
+        .format(url, URLEncoder.encode(name, StandardCharsets.UTF_8.toString()));
+    int skills = Skill.values().length;
+    int row = 0;
+
+    try (Reader in = new InputStreamReader(upstreamClient.open(URI.create(hiscoresUrl)),
+        StandardCharsets.UTF_8)) {
+      for (CSVRecord r : CSV_FORMAT.parse(in)) {
+        int i = row++;
+
+        if (i < ROW_OFFSET) {
+          continue;
+        } else if (i > skills) {
+          break;
+        }
+
+        Skill skill = Skill.getById(i);
+
+        if (skill == null) {
+          LOG.warn("Unknown skill with id: {}", i);
+          continue;
+        }
+
+        try {
+          double xp = Math.max(Skill.INITIAL_XPS.get(skill), Double.parseDouble(r.get(2)));
+          skillXps.put(skill, xp);
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+          LOG.warn("Malformed hiscore data for skill: {}", skill, e);
         }
       }
-    } catch (IOException | InterruptedException e) {
-      if (e instanceof InterruptedException) {
-        Thread.currentThread().interrupt();
+    }
+
+    for (int i = Math.max(row, ROW_OFFSET); i <= skills; i++) {
+      Skill skill = Skill.getById(i);
+
+      if (skill != null) {
+        LOG.warn("Missing hiscore data for skill: {}", skill);
       }
-      LOG.warn("Failed to load hiscores for player: {}", name, e);
     }
 
-    return skillXps;
+    return Collections.unmodifiableMap(skillXps);
   }
 }
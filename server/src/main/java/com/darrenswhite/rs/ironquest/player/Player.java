@@ -6,22 +6,32 @@ import com.darrenswhite.rs.ironquest.action.QuestAction;
 import com.darrenswhite.rs.ironquest.action.TrainAction;
 import com.darrenswhite.rs.ironquest.dto.PlayerDTO;
 import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.QuestGraph;
 import com.darrenswhite.rs.ironquest.quest.RuneMetricsQuest;
 import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.SkillRequirement;
 import com.darrenswhite.rs.ironquest.quest.reward.LampReward;
-import java.util.Collection;
-import java.util.Comparator;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -34,21 +44,71 @@ import org.apache.logging.log4j.Logger;
 public class Player {
 
   private static final Logger LOG = LogManager.getLogger(Player.class);
+  private static final Skill[] SKILLS = Skill.values();
+  private static final int[] NO_LAMP_SKILLS = new int[0];
+  private static final BitSet NO_QUESTS = new BitSet();
+  private static final Set<Skill> COMBAT_SKILLS = EnumSet
+      .of(Skill.ATTACK, Skill.CONSTITUTION, Skill.DEFENCE, Skill.MAGIC, Skill.PRAYER, Skill.RANGED,
+          Skill.STRENGTH, Skill.SUMMONING);
+
+  /**
+   * Default maximum time to wait for player data to be loaded.
+   */
+  public static final Duration DEFAULT_LOAD_TIMEOUT = Duration.ofSeconds(15);
 
   private final String name;
-  private final Map<Skill, Double> skillXps;
-  private final Map<Integer, QuestEntry> quests;
   private final Set<Skill> lampSkills;
   private final boolean ironman;
   private final boolean recommended;
+  private final QuestGraph questGraph;
+  private final QuestStates quests;
+  private final SkillRequirementTargets skillRequirementTargets;
+  private final Map<Integer, int[]> previousLampSkills = new HashMap<>();
+  private BitSet unmetCompletedQuests = NO_QUESTS;
+  private double[] skillXps;
+  private int[] levels;
+  private int totalLevel;
+  private double combatLevel;
+  private boolean skillXpsShared;
+  private long version;
 
   Player(Builder builder) {
     this.name = builder.name;
-    this.skillXps = builder.skillXps;
-    this.quests = createQuestEntries(builder.quests);
+    this.skillXps = createSkillXps(builder.skillXps);
+    this.levels = createLevels(skillXps);
+    this.totalLevel = Arrays.stream(levels).sum();
+    this.combatLevel = computeCombatLevel();
     this.lampSkills = builder.lampSkills;
     this.ironman = builder.ironman;
     this.recommended = builder.recommended;
+    this.questGraph =
+        builder.questGraph != null ? builder.questGraph : new QuestGraph(builder.quests);
+    this.quests = new QuestStates(questGraph, builder.quests);
+    this.skillRequirementTargets =
+        new SkillRequirementTargets(questGraph, ironman, recommended, quests);
+  }
+
+  /**
+   * Create a copy of the specified {@link Player} which shares the skill xp and quest states until
+   * either player is modified.
+   *
+   * @param player the player to copy
+   */
+  private Player(Player player) {
+    this.name = player.name;
+    this.skillXps = player.skillXps;
+    this.levels = player.levels;
+    this.totalLevel = player.totalLevel;
+    this.combatLevel = player.combatLevel;
+    this.lampSkills = new LinkedHashSet<>(player.lampSkills);
+    this.ironman = player.ironman;
+    this.recommended = player.recommended;
+    this.questGraph = player.questGraph;
+    this.quests = player.quests.copy();
+    this.skillRequirementTargets = player.skillRequirementTargets.copy();
+    this.unmetCompletedQuests = player.unmetCompletedQuests;
+    this.skillXpsShared = true;
+    player.skillXpsShared = true;
   }
 
   /**
@@ -66,7 +126,13 @@ public class Player {
    * @return map of skill xp
    */
   public Map<Skill, Double> getSkillXps() {
-    return skillXps;
+    Map<Skill, Double> xps = new EnumMap<>(Skill.class);
+
+    for (Skill skill : SKILLS) {
+      xps.put(skill, skillXps[skill.ordinal()]);
+    }
+
+    return xps;
   }
 
   /**
@@ -75,7 +141,16 @@ public class Player {
    * @return set of quests
    */
   public Set<Quest> getQuests() {
-    return quests.values().stream().map(QuestEntry::getQuest).collect(Collectors.toSet());
+    return quests.getQuests();
+  }
+
+  /**
+   * Returns the {@link QuestGraph} of the {@link Quest}s.
+   *
+   * @return the quest graph
+   */
+  public QuestGraph getQuestGraph() {
+    return questGraph;
   }
 
   /**
@@ -105,6 +180,18 @@ public class Player {
     return recommended;
   }
 
+  /**
+   * Returns the version of the state of this player.
+   *
+   * The version is incremented every time the skill xp, or the status or priority of a quest,
+   * changes. It can be used to invalidate values derived from the player state.
+   *
+   * @return the state version
+   */
+  public long getVersion() {
+    return version;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -118,7 +205,7 @@ public class Player {
     }
     Player player = (Player) o;
     return ironman == player.ironman && recommended == player.recommended && Objects
-        .equals(name, player.name) && Objects.equals(skillXps, player.skillXps) && Objects
+        .equals(name, player.name) && Arrays.equals(skillXps, player.skillXps) && Objects
         .equals(quests, player.quests) && Objects.equals(lampSkills, player.lampSkills);
   }
 
@@ -127,7 +214,7 @@ public class Player {
    */
   @Override
   public final int hashCode() {
-    return Objects.hash(name, skillXps, quests, lampSkills, ironman, recommended);
+    return Objects.hash(name, Arrays.hashCode(skillXps), quests, lampSkills, ironman, recommended);
   }
 
   /**
@@ -144,22 +231,13 @@ public class Player {
   /**
    * Returns a copy of this {@link Player}.
    *
+   * The skill xp and quest states are shared with the copy and are only copied when modified, so
+   * creating a copy does not depend on the number of quests.
+   *
    * @return the new player instance
    */
   public Player copy() {
-    Set<Quest> copiedQuests = quests.values().stream().map(QuestEntry::copy)
-        .map(QuestEntry::getQuest).collect(Collectors.toSet());
-
-    Player copy = new Builder().withName(name).withSkillXps(new EnumMap<>(skillXps))
-        .withQuests(copiedQuests).withLampSkills(new LinkedHashSet<>(lampSkills))
-        .withIronman(ironman).withRecommended(recommended).build();
-
-    for (Map.Entry<Integer, QuestEntry> entry : quests.entrySet()) {
-      copy.quests.get(entry.getKey()).setPriority(entry.getValue().getPriority());
-      copy.quests.get(entry.getKey()).setStatus(entry.getValue().getStatus());
-    }
-
-    return copy;
+    return new Player(this);
   }
 
   /**
@@ -168,55 +246,88 @@ public class Player {
    * @return map of skill levels
    */
   public Map<Skill, Integer> getLevels() {
-    return skillXps.entrySet().stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getKey().getLevelAt(e.getValue())));
+    Map<Skill, Integer> skillLevels = new EnumMap<>(Skill.class);
+
+    for (Skill skill : SKILLS) {
+      skillLevels.put(skill, getLevel(skill));
+    }
+
+    return skillLevels;
   }
 
   /**
    * Returns the total number of quest points for all completed {@link Quest}s.
    *
+   * The quest points are maintained as quests are completed.
+   *
    * @return number of quest points
    */
   public int getQuestPoints() {
-    return getCompletedQuests().stream().mapToInt(q -> q.getRewards().getQuestPoints()).sum();
+    return quests.getQuestPoints();
   }
 
   /**
    * Get all quests which are completed.
    *
+   * The returned set is an unmodifiable view of the quests completed at the time of calling.
+   *
    * @return set of complete quests
    */
   public Set<Quest> getCompletedQuests() {
-    return quests.values().stream().filter(e -> e.getStatus() == QuestStatus.COMPLETED)
-        .map(QuestEntry::getQuest).collect(Collectors.toSet());
+    return quests.getCompletedQuests();
   }
 
   /**
    * Get all quests which are not completed.
    *
+   * The returned set is an unmodifiable view of the quests not completed at the time of calling.
+   *
    * @return set of incomplete quests
    */
   public Set<Quest> getIncompleteQuests() {
-    return quests.values().stream().filter(e -> e.getStatus() != QuestStatus.COMPLETED)
-        .map(QuestEntry::getQuest).collect(Collectors.toSet());
+    return quests.getIncompleteQuests();
   }
 
   /**
    * Returns the total level for all {@link Skill}s.
    *
+   * The total level is maintained as skill xp changes.
+   *
    * @return total level
    */
   public int getTotalLevel() {
-    return getLevels().values().stream().mapToInt(Integer::intValue).sum();
+    return totalLevel;
   }
 
   /**
-   * Calculates and returns the combat level.
+   * Returns the combat level.
+   *
+   * The combat level is maintained as skill xp changes.
    *
    * @return combat level
-   * @see <a href="https://runescape.fandom.com/wiki/Combat_level">Combat level formula</a>
+   * @see Player#computeCombatLevel()
    */
   public double getCombatLevel() {
+    return combatLevel;
+  }
+
+  /**
+   * Returns the level for the specified {@link Skill}.
+   *
+   * @param s the skill
+   * @return the skill level
+   */
+  public int getLevel(Skill s) {
+    return levels[s.ordinal()];
+  }
+
+  /**
+   * Calculates the combat level from the current levels.
+   *
+   * @return combat level
+   * @see <a href="https://runescape.fandom.com/wiki/Combat_level">Combat level formula</a>
+   */
+  private double computeCombatLevel() {
     double attack = getLevel(Skill.ATTACK);
     double constitution = getLevel(Skill.CONSTITUTION);
     double defence = getLevel(Skill.DEFENCE);
@@ -233,16 +344,6 @@ public class Player {
     return (max + defence + constitution + Math.floor(prayer / 2) + Math.floor(summoning / 2)) / 4;
   }
 
-  /**
-   * Returns the level for the specified {@link Skill}.
-   *
-   * @param s the skill
-   * @return the skill level
-   */
-  public int getLevel(Skill s) {
-    return s.getLevelAt(getXp(s));
-  }
-
   /**
    * Returns the xp for the specified {@link Skill}.
    *
@@ -250,7 +351,7 @@ public class Player {
    * @return the skill xp
    */
   public double getXp(Skill s) {
-    return skillXps.get(s);
+    return skillXps[s.ordinal()];
   }
 
   /**
@@ -260,10 +361,11 @@ public class Player {
    * @param xp the amount of xp
    */
   public void addSkillXP(Skill s, double xp) {
-    double newXp = skillXps.getOrDefault(s, 0d) + xp;
+    double newXp = skillXps[s.ordinal()] + xp;
 
     if (newXp >= 0) {
-      skillXps.put(s, newXp);
+      setXp(s, newXp);
+      version++;
     }
   }
 
@@ -274,7 +376,7 @@ public class Player {
    * @return <tt>true</tt> if the quest is marked as completed; <tt>false</tt> otherwise.
    */
   public boolean isQuestCompleted(Quest quest) {
-    return quests.get(quest.getId()).getStatus() == QuestStatus.COMPLETED;
+    return quests.isCompleted(questGraph.indexOf(quest.getId()));
   }
 
   /**
@@ -315,15 +417,42 @@ public class Player {
   /**
    * Load skill data from hiscores and quest data from runemetrics.
    *
-   * A non-empty username is required.
+   * A non-empty username is required. Both services are queried in turn on the calling thread.
    *
    * @param hiscoreService the service used to retrieve hiscore data from
    * @param runeMetricsService the service used to retrieve runemetrics data from
+   * @see Player#load(HiscoreService, RuneMetricsService, PlayerLoadExecutor, Duration)
    */
   public void load(HiscoreService hiscoreService, RuneMetricsService runeMetricsService) {
     if (name != null && !name.trim().isEmpty()) {
-      loadHiscores(hiscoreService);
-      loadQuests(runeMetricsService);
+      loadHiscores(hiscoreService.load(name));
+      loadQuests(runeMetricsService.load(name));
+    }
+  }
+
+  /**
+   * Load skill data from hiscores and quest data from runemetrics.
+   *
+   * A non-empty username is required. Both services are queried concurrently on the executor and
+   * waited on until the combined deadline. Data which is not retrieved before the deadline is not
+   * loaded, and its load is interrupted. A service is queried on the calling thread instead if the
+   * executor rejects its load.
+   *
+   * @param hiscoreService the service used to retrieve hiscore data from
+   * @param runeMetricsService the service used to retrieve runemetrics data from
+   * @param executor the executor used to query the services
+   * @param timeout the maximum time to wait for both services
+   */
+  public void load(HiscoreService hiscoreService, RuneMetricsService runeMetricsService,
+      PlayerLoadExecutor executor, Duration timeout) {
+    if (name != null && !name.trim().isEmpty()) {
+      long deadline = System.nanoTime() + timeout.toNanos();
+      Future<Map<Skill, Double>> hiscores = submit(executor, () -> hiscoreService.load(name));
+      Future<Set<RuneMetricsQuest>> rmQuests = submit(executor,
+          () -> runeMetricsService.load(name));
+
+      loadHiscores(await(hiscores, deadline, "hiscores", Collections.emptyMap()));
+      loadQuests(await(rmQuests, deadline, "runemetrics", Collections.emptySet()));
     }
   }
 
@@ -332,27 +461,27 @@ public class Player {
    * LampReward}.
    *
    * If this {@link Player} does meet the lamp requirements, then a {@link Set} of optimal {@link
-   * Skill}s to used for the new action. This set of optimal skills is added to {@link
-   * QuestEntry#getPreviousLampSkills()}.
+   * Skill}s to used for the new action. This set of optimal skills is added to the previous lamp
+   * skills for the quest.
    *
    * If this {@link Player} does not meet the lamp requirements, then the lamp can be processed in
    * the future when requirements have been met.
    *
    * @return the lamp action
    * @see Player#getOptimalLampSkills(LampReward, Set)
-   * @see QuestEntry#getPreviousLampSkills()
    */
   public LampAction createLampAction(Quest quest, LampReward lampReward) {
     Set<Skill> optimalSkills = new HashSet<>();
     boolean future = true;
 
     if (lampReward.meetsRequirements(this)) {
-      Set<Set<Skill>> previous = getQuestEntry(quest).getPreviousLampSkills();
+      int[] previous = previousLampSkills.getOrDefault(quest.getId(), NO_LAMP_SKILLS);
+      int optimalMask = getOptimalLampSkills(lampReward, previous);
 
-      optimalSkills = getOptimalLampSkills(lampReward, previous);
+      optimalSkills = SkillMask.toSet(optimalMask);
       future = false;
 
-      previous.add(optimalSkills);
+      previousLampSkills.put(quest.getId(), addLampSkills(previous, optimalMask));
     }
 
     return new LampAction(this, future, quest, lampReward, optimalSkills);
@@ -374,10 +503,14 @@ public class Player {
    *
    * @param questId the id of quest
    * @param priority the priority
-   * @see QuestEntry#setPriority(QuestPriority)
+   * @throws IllegalArgumentException if there is no quest with the id
    */
   public void setQuestPriority(int questId, QuestPriority priority) {
-    quests.get(questId).setPriority(priority);
+    int index = questGraph.indexOf(questId);
+
+    quests.setPriority(index, priority);
+    skillRequirementTargets.update(quests, index);
+    version++;
   }
 
   /**
@@ -395,11 +528,10 @@ public class Player {
    * Get the {@link QuestPriority} for the given {@link Quest}.
    *
    * @param questId the id of quest
-   * @return the priority
-   * @see QuestEntry#getPriority()
+   * @return the priority or <tt>null</tt> if there is no quest with the id
    */
   public QuestPriority getQuestPriority(int questId) {
-    return quests.get(questId).getPriority();
+    return quests.getPriority(questGraph.indexOf(questId));
   }
 
   /**
@@ -418,10 +550,15 @@ public class Player {
    *
    * @param questId the id of quest
    * @param status the status
-   * @see QuestEntry#setStatus(QuestStatus)
+   * @throws IllegalArgumentException if there is no quest with the id
    */
   public void setQuestStatus(int questId, QuestStatus status) {
-    quests.get(questId).setStatus(status);
+    int index = questGraph.indexOf(questId);
+
+    quests.setStatus(index, status);
+    skillRequirementTargets.update(quests, index);
+    updateUnmetCompletedQuests(index);
+    version++;
   }
 
   /**
@@ -439,11 +576,10 @@ public class Player {
    * Get the {@link QuestStatus} for the given {@link Quest}.
    *
    * @param questId the id of quest
-   * @return the status
-   * @see QuestEntry#getStatus()
+   * @return the status or <tt>null</tt> if there is no quest with the id
    */
   public QuestStatus getQuestStatus(int questId) {
-    return quests.get(questId).getStatus();
+    return quests.getStatus(questGraph.indexOf(questId));
   }
 
   /**
@@ -468,43 +604,57 @@ public class Player {
    * @see LampReward#getChoices(Player, Set)
    */
   public Set<Skill> getOptimalLampSkills(LampReward lampReward, Set<Set<Skill>> previous) {
-    Set<Skill> optimalLampSkills = null;
-    Set<Set<Skill>> lampSkillChoices = lampReward.getChoices(this, previous);
+    return SkillMask
+        .toSet(getOptimalLampSkills(lampReward, previous.stream().mapToInt(SkillMask::of).toArray()));
+  }
 
-    for (Skill lampSkill : lampSkills) {
-      optimalLampSkills = lampSkillChoices.stream().filter(skills -> skills.contains(lampSkill))
-          .findFirst().orElse(null);
+  /**
+   * Get the optimal skill choices to be used on a {@link LampReward} as a {@link SkillMask}.
+   *
+   * Ties are broken by the order of the lamp reward choices.
+   *
+   * @param lampReward the lamp reward from the quest
+   * @param previous masks of previous skill choices used for the quest
+   * @return the mask of the optimal choice of skills to use for the lamp reward
+   * @throws LampSkillsNotFoundException if there are no skill choices found for the lamp reward
+   * @see Player#getOptimalLampSkills(LampReward, Set)
+   */
+  private int getOptimalLampSkills(LampReward lampReward, int[] previous) {
+    int[] choices = lampReward.getChoiceMasks(this, previous);
 
-      if (optimalLampSkills != null) {
-        break;
-      }
+    if (choices.length == 0) {
+      throw new LampSkillsNotFoundException(
+          "Unable to use lampReward: no suitable skills found: lampReward=" + lampReward
+              + ",previous=" + Arrays.stream(previous).mapToObj(SkillMask::toSet)
+              .collect(Collectors.toList()) + ",lampSkills=" + lampSkills);
     }
 
-    if (optimalLampSkills == null) {
-      Set<Quest> prioritisedQuests = getPrioritisedQuests();
-      Map<Skill, Double> xpRequirements;
-
-      if (prioritisedQuests.isEmpty()) {
-        xpRequirements = getRemainingXpRequirements(getIncompleteQuests());
-      } else {
-        xpRequirements = getRemainingXpRequirements(prioritisedQuests);
+    for (Skill lampSkill : lampSkills) {
+      for (int choice : choices) {
+        if (SkillMask.contains(choice, lampSkill)) {
+          return choice;
+        }
       }
+    }
 
-      Map<Set<Skill>, Double> xpChoicesRequirements = lampSkillChoices.stream().collect(Collectors
-          .toMap(s -> s,
-              s -> s.stream().mapToDouble(sk -> xpRequirements.getOrDefault(sk, 0d)).sum()));
+    boolean prioritised = quests.hasPrioritisedQuests();
+    int optimalChoice = choices[0];
+    double optimalXp = Double.NEGATIVE_INFINITY;
 
-      optimalLampSkills = xpChoicesRequirements.entrySet().stream()
-          .max(Comparator.comparingDouble(Map.Entry::getValue)).map(Map.Entry::getKey).orElse(null);
-    }
+    for (int choice : choices) {
+      double xp = 0;
 
-    if (optimalLampSkills == null) {
-      throw new LampSkillsNotFoundException(
-          "Unable to use lampReward: no suitable skills found: lampReward=" + lampReward
-              + ",previous=" + previous + ",lampSkills=" + lampSkills);
+      for (int bits = choice; bits != 0; bits &= bits - 1) {
+        xp += getRemainingXpRequirement(SKILLS[Integer.numberOfTrailingZeros(bits)], prioritised);
+      }
+
+      if (xp > optimalXp) {
+        optimalChoice = choice;
+        optimalXp = xp;
+      }
     }
 
-    return optimalLampSkills;
+    return optimalChoice;
   }
 
   /**
@@ -514,46 +664,138 @@ public class Player {
    * @return total skill level requirements remaining
    */
   public double getTotalRemainingSkillRequirements(Quest quest, boolean recursive) {
-    return getRemainingSkillRequirements(quest, recursive).stream()
-        .mapToDouble(sr -> sr.getSkill().getXpAtLevel(sr.getLevel()) - getXp(sr.getSkill())).sum();
+    int[] remainingLevels = getRemainingSkillLevels(quest, recursive);
+    double total = 0;
+
+    for (Skill skill : SKILLS) {
+      int level = remainingLevels[skill.ordinal()];
+
+      if (level > 0) {
+        total += skill.getXpAtLevel(level) - getXp(skill);
+      }
+    }
+
+    return total;
   }
 
   /**
    * Get remaining {@link Quest}s required to complete this {@link Quest}.
    *
+   * Recursive requirements are retrieved from the precomputed {@link QuestGraph}.
+   *
    * @param recursive <tt>true</tt> to get requirements recursively; <tt>false</tt> otherwise
    * @return remaining quest requirements
+   * @see QuestGraph#getQuestRequirements(Quest, boolean, boolean)
    */
   public Set<Quest> getRemainingQuestRequirements(Quest quest, boolean recursive) {
-    return quest.getQuestRequirements(recursive).stream().filter(q -> !q.test(this))
-        .map(QuestRequirement::getQuest).collect(Collectors.toSet());
+    if (!recursive) {
+      return quest.getQuestRequirements(false).stream().filter(q -> !q.test(this))
+          .map(QuestRequirement::getQuest).collect(Collectors.toSet());
+    }
+
+    Set<Quest> remainingQuestRequirements = new HashSet<>();
+    BitSet questRequirements = questGraph.getQuestRequirements(quest, ironman, recommended);
+
+    for (int i = questRequirements.nextSetBit(0); i >= 0;
+        i = questRequirements.nextSetBit(i + 1)) {
+      Quest questRequirement = questGraph.getQuest(i);
+
+      if (!isQuestCompleted(questRequirement)) {
+        remainingQuestRequirements.add(questRequirement);
+      }
+    }
+
+    return remainingQuestRequirements;
   }
 
   /**
    * Get remaining {@link SkillRequirement}s to complete this {@link Quest}.
    *
+   * The requirements of the quest itself are first, in the order they are unmet, followed by any
+   * other skills from its quest requirements in {@link Skill} order.
+   *
    * @param recursive <tt>true</tt> to get requirements recursively; <tt>false</tt> otherwise
    * @return remaining skill requirements
+   * @see Player#getRemainingSkillLevels(Quest, boolean)
    */
   public Set<SkillRequirement> getRemainingSkillRequirements(Quest quest, boolean recursive) {
+    int[] remainingLevels = getRemainingSkillLevels(quest, recursive);
     Set<SkillRequirement> remainingSkillRequirements = new LinkedHashSet<>();
 
-    remainingSkillRequirements = SkillRequirement.merge(remainingSkillRequirements,
-        quest.getRequirements().getSkills().stream().filter(sr -> !sr.test(this))
-            .collect(Collectors.toCollection(LinkedHashSet::new)));
+    for (SkillRequirement skillRequirement : quest.getRequirements().getSkills()) {
+      Skill skill = skillRequirement.getSkill();
+      int level = remainingLevels[skill.ordinal()];
 
-    if (recursive) {
-      Set<Quest> remainingQuestRequirements = getRemainingQuestRequirements(quest, true);
-
-      for (Quest questRequirement : remainingQuestRequirements) {
-        remainingSkillRequirements = SkillRequirement.merge(remainingSkillRequirements,
-            getRemainingSkillRequirements(questRequirement, true));
+      if (level > 0 && !skillRequirement.test(this)) {
+        remainingSkillRequirements.add(new SkillRequirement.Builder(skill, level).build());
+        remainingLevels[skill.ordinal()] = 0;
       }
     }
 
+    remainingSkillRequirements.addAll(SkillRequirement.fromLevels(remainingLevels));
+
     return remainingSkillRequirements;
   }
 
+  /**
+   * Get the remaining level of each {@link Skill} required to complete this {@link Quest}.
+   *
+   * The highest level required for each skill is merged from the quest, and recursively from its
+   * incomplete quest requirements. A level is only remaining if this player does not have it.
+   *
+   * The recursive levels are precomputed by the {@link QuestGraph} for all quest requirements.
+   * Completed quest requirements only change the remaining levels if this player does not have
+   * their levels, in which case the levels of the incomplete quest requirements are merged.
+   *
+   * @param recursive <tt>true</tt> to get requirements recursively; <tt>false</tt> otherwise
+   * @return remaining levels indexed by {@link Skill#ordinal()}; with 0 for skills which are not
+   * required
+   * @see QuestGraph#getSkillRequirementLevels(int, boolean, boolean)
+   * @see QuestGraph#getRecursiveSkillRequirementLevels(int, boolean, boolean)
+   */
+  public int[] getRemainingSkillLevels(Quest quest, boolean recursive) {
+    int index = questGraph.indexOf(quest.getId());
+    int[] remainingLevels;
+
+    if (!recursive) {
+      remainingLevels = questGraph.getSkillRequirementLevels(index, ironman, recommended);
+    } else if (!unmetCompletedQuests.isEmpty() && unmetCompletedQuests
+        .intersects(questGraph.getQuestRequirements(quest, ironman, recommended))) {
+      remainingLevels = getIncompleteSkillRequirementLevels(quest, index);
+    } else {
+      remainingLevels = questGraph.getRecursiveSkillRequirementLevels(index, ironman, recommended);
+    }
+
+    for (int i = 0; i < remainingLevels.length; i++) {
+      if (levels[i] >= remainingLevels[i]) {
+        remainingLevels[i] = 0;
+      }
+    }
+
+    return remainingLevels;
+  }
+
+  /**
+   * Merge the required levels of the {@link Quest} and its incomplete quest requirements.
+   *
+   * This is only needed when a completed quest requirement has a level this player does not have,
+   * otherwise the recursive levels from the {@link QuestGraph} are the same.
+   */
+  private int[] getIncompleteSkillRequirementLevels(Quest quest, int index) {
+    int[] incompleteLevels = questGraph.getSkillRequirementLevels(index, ironman, recommended);
+    BitSet questRequirements = questGraph.getQuestRequirements(quest, ironman, recommended);
+
+    for (int i = questRequirements.nextSetBit(0); i >= 0;
+        i = questRequirements.nextSetBit(i + 1)) {
+      if (!quests.isCompleted(i)) {
+        SkillRequirement.merge(incompleteLevels,
+            questGraph.getSkillRequirementLevels(i, ironman, recommended));
+      }
+    }
+
+    return incompleteLevels;
+  }
+
   /**
    * Returns the total xp and lamp rewards from the specified {@link Quest}.
    *
@@ -572,18 +814,20 @@ public class Player {
    */
   public Map<Skill, Double> getQuestRewards(Quest quest) {
     Map<Skill, Double> rewards = new EnumMap<>(Skill.class);
-    Set<Set<Skill>> previousLampSkills = new HashSet<>();
+    int[] previous = NO_LAMP_SKILLS;
 
     rewards.putAll(quest.getRewards().getXp());
 
-    quest.getRewards().getLamps().stream().filter(l -> l.meetsRequirements(this))
-        .forEach(lampReward -> {
-          Set<Skill> skills = getOptimalLampSkills(lampReward, previousLampSkills);
-          double xp = lampReward.getXpForSkills(this, skills);
+    for (LampReward lampReward : quest.getRewards().getLamps()) {
+      if (lampReward.meetsRequirements(this)) {
+        int mask = getOptimalLampSkills(lampReward, previous);
+        Set<Skill> skills = SkillMask.toSet(mask);
+        double xp = lampReward.getXpForSkills(this, skills);
 
-          previousLampSkills.add(skills);
-          skills.forEach(skill -> rewards.put(skill, xp));
-        });
+        previous = addLampSkills(previous, mask);
+        skills.forEach(skill -> rewards.put(skill, xp));
+      }
+    }
 
     return rewards;
   }
@@ -592,12 +836,13 @@ public class Player {
    * Returns a {@link Set<Quest>} which have been prioritised. This is all quests which have a
    * priority greater than normal and are not completed.
    *
+   * The returned set is an unmodifiable view of the quests prioritised at the time of calling.
+   *
    * @return a set of prioritised quests
    * @see QuestPriority#greaterThanNormal()
    */
   public Set<Quest> getPrioritisedQuests() {
-    return getIncompleteQuests().stream()
-        .filter(quest -> getQuestPriority(quest).greaterThanNormal()).collect(Collectors.toSet());
+    return quests.getPrioritisedQuests();
   }
 
   /**
@@ -615,63 +860,139 @@ public class Player {
   }
 
   /**
-   * Returns the xp required for each {@link Skill} needed to complete the given quests.
+   * Update whether the {@link Quest} at the specified index is completed without this player
+   * having all of its skill requirement levels.
    *
-   * If the skill has no requirements left then it will not be present in the returned map.
-   *
-   * @return xp required for each skill
+   * This is possible for quests loaded as completed. The set is replaced rather than modified,
+   * as it is shared with copies of this player. Quests are not removed once the levels are met.
    */
-  private Map<Skill, Double> getRemainingXpRequirements(Set<Quest> quests) {
-    Set<SkillRequirement> maxRequirements = getRemainingSkillRequirements(quests);
+  private void updateUnmetCompletedQuests(int index) {
+    boolean unmet = quests.isCompleted(index) && !meetsSkillRequirementLevels(index);
 
-    return maxRequirements.stream().collect(Collectors.toMap(SkillRequirement::getSkill, sr -> {
-      Skill skill = sr.getSkill();
+    if (unmet != unmetCompletedQuests.get(index)) {
+      BitSet updated = (BitSet) unmetCompletedQuests.clone();
 
-      return skill.getXpAtLevel(sr.getLevel()) - getXp(skill);
-    }, Math::max));
+      updated.set(index, unmet);
+      unmetCompletedQuests = updated;
+    }
   }
 
   /**
-   * Returns the highest {@link SkillRequirement}s required to complete the given quests.
+   * Tests if this player has the required level of every {@link Skill} for the {@link Quest} at
+   * the specified index.
+   */
+  private boolean meetsSkillRequirementLevels(int index) {
+    for (Skill skill : SKILLS) {
+      if (getLevel(skill) < questGraph.getSkillRequirementLevel(index, skill, ironman,
+          recommended)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns a copy of the previous lamp skill masks with the specified mask added.
+   */
+  private static int[] addLampSkills(int[] previous, int mask) {
+    int[] lampSkills = Arrays.copyOf(previous, previous.length + 1);
+
+    lampSkills[previous.length] = mask;
+
+    return lampSkills;
+  }
+
+  /**
+   * Returns the xp required for the {@link Skill} to complete all incomplete {@link Quest}s, or
+   * all prioritised quests.
+   *
+   * @param skill the skill
+   * @param prioritised <tt>true</tt> for prioritised quests; <tt>false</tt> for incomplete quests
+   * @return xp required for the skill; or 0 if there are no remaining requirements
+   * @see SkillRequirementTargets#getLevel(Skill, boolean)
+   */
+  private double getRemainingXpRequirement(Skill skill, boolean prioritised) {
+    int level = skillRequirementTargets.getLevel(skill, prioritised);
+
+    return getLevel(skill) < level ? skill.getXpAtLevel(level) - getXp(skill) : 0;
+  }
+
+  /**
+   * Submit the player data load to the executor. A load which is rejected because the executor is
+   * saturated is run on the calling thread instead, so the player is never loaded without data.
    *
-   * @return the maximum skill requirements for all quests
-   * @see SkillRequirement#merge(Collection, Collection)
+   * @param executor the executor
+   * @param task the load
+   * @param <T> the type of data
+   * @return the future player data
    */
-  private Set<SkillRequirement> getRemainingSkillRequirements(Set<Quest> quests) {
-    Set<SkillRequirement> requirements = new HashSet<>();
+  private static <T> Future<T> submit(PlayerLoadExecutor executor, Callable<T> task) {
+    try {
+      return executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      FutureTask<T> future = new FutureTask<>(task);
+
+      future.run();
+
+      return future;
+    }
+  }
 
-    for (Quest quest : quests) {
-      requirements = SkillRequirement
-          .merge(requirements, getRemainingSkillRequirements(quest, false));
+  /**
+   * Wait for the specified player data until the deadline.
+   *
+   * @param future the future player data
+   * @param deadline the deadline in {@link System#nanoTime()} units
+   * @param source the name of the data source
+   * @param defaultValue the value to use if the data could not be retrieved
+   * @param <T> the type of data
+   * @return the player data, or the default value
+   */
+  private <T> T await(Future<T> future, long deadline, String source, T defaultValue) {
+    try {
+      return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      LOG.warn("Timed out loading {} data for player: {}", source, name);
+    } catch (ExecutionException e) {
+      LOG.warn("Failed to load {} data for player: {}", source, name, e.getCause());
+    } catch (InterruptedException e) {
+      LOG.warn("Interrupted loading {} data for player: {}", source, name);
+      Thread.currentThread().interrupt();
     }
 
-    return requirements;
+    future.cancel(true);
+    return defaultValue;
   }
 
   /**
    * Load skill xp data from the hiscores.
    *
-   * @param hiscoreService the hiscore service to retrieve data from
+   * @param skillXps the skill xp data retrieved from the hiscores
    */
-  private void loadHiscores(HiscoreService hiscoreService) {
-    skillXps.putAll(hiscoreService.load(name));
+  private void loadHiscores(Map<Skill, Double> skillXps) {
+    skillXps.forEach(this::setXp);
+    version++;
   }
 
   /**
    * Load quest status data from the runemetrics.
    *
-   * @param runeMetricsService the runemetrics service to retrieve data from
+   * @param rmQuests the quest data retrieved from the runemetrics
    */
-  private void loadQuests(RuneMetricsService runeMetricsService) {
-    Set<RuneMetricsQuest> rmQuests = runeMetricsService.load(name);
-
+  private void loadQuests(Set<RuneMetricsQuest> rmQuests) {
     for (RuneMetricsQuest rmq : rmQuests) {
       String title = rmq.getTitle();
-      Optional<QuestEntry> entry = quests.values().stream().filter(
-          e -> e.getQuest().getTitle().equalsIgnoreCase(title) || e.getQuest().getDisplayName()
-              .equalsIgnoreCase(title)).findAny();
+      Quest quest = null;
 
-      if (entry.isPresent()) {
+      for (int index : questGraph.indexesOfTitle(title)) {
+        if (quests.contains(index)) {
+          quest = questGraph.getQuest(index);
+          break;
+        }
+      }
+
+      if (quest != null) {
         QuestStatus status;
         switch (rmq.getStatus()) {
           case COMPLETED:
@@ -686,7 +1007,7 @@ public class Player {
             break;
         }
 
-        entry.get().setStatus(status);
+        setQuestStatus(quest, status);
       } else {
         LOG.warn("Failed to find RuneMetricsQuest: {}", title);
       }
@@ -694,26 +1015,67 @@ public class Player {
   }
 
   /**
-   * Create a {@link Map} of {@link QuestEntry}s for the given {@link Quest}s.
+   * Set the xp for the specified {@link Skill} and update its level, the total level and the combat
+   * level.
+   *
+   * The skill xp and levels are copied first if they are shared with a copy of this {@link
+   * Player}.
+   *
+   * @param s the skill
+   * @param xp the skill xp
+   */
+  private void setXp(Skill s, double xp) {
+    int index = s.ordinal();
+    int level = s.getLevelAt(xp);
+
+    if (skillXpsShared) {
+      skillXps = skillXps.clone();
+      levels = levels.clone();
+      skillXpsShared = false;
+    }
+
+    skillXps[index] = xp;
+
+    if (levels[index] != level) {
+      totalLevel += level - levels[index];
+      levels[index] = level;
+
+      if (COMBAT_SKILLS.contains(s)) {
+        combatLevel = computeCombatLevel();
+      }
+    }
+  }
+
+  /**
+   * Create the skill xp vector, indexed by {@link Skill#ordinal()}, from the given {@link Map}.
    *
-   * The key is the {@link Quest} id and the value is the {@link QuestEntry}.
+   * Skills which are not present in the map have no xp.
    *
-   * @param quests the quests to create entries for
-   * @return map of quest entries
+   * @param skillXps map of skill xp
+   * @return the skill xp vector
    */
-  private Map<Integer, QuestEntry> createQuestEntries(Set<Quest> quests) {
-    return quests.stream().map(QuestEntry::new)
-        .collect(Collectors.toMap(entry -> entry.getQuest().getId(), Function.identity()));
+  private static double[] createSkillXps(Map<Skill, Double> skillXps) {
+    double[] xps = new double[SKILLS.length];
+
+    skillXps.forEach((skill, xp) -> xps[skill.ordinal()] = xp);
+
+    return xps;
   }
 
   /**
-   * Returns the {@link QuestEntry} for the specified {@link Quest}.
+   * Create the level vector, indexed by {@link Skill#ordinal()}, for the given skill xp vector.
    *
-   * @param quest the quest to find the entry for
-   * @return the quest entry or <tt>null</tt> if not found
+   * @param skillXps the skill xp vector
+   * @return the level vector
    */
-  private QuestEntry getQuestEntry(Quest quest) {
-    return quests.get(quest.getId());
+  private static int[] createLevels(double[] skillXps) {
+    int[] levels = new int[SKILLS.length];
+
+    for (Skill skill : SKILLS) {
+      levels[skill.ordinal()] = skill.getLevelAt(skillXps[skill.ordinal()]);
+    }
+
+    return levels;
   }
 
   public static class Builder {
@@ -724,6 +1086,7 @@ public class Player {
     private Set<Skill> lampSkills = new LinkedHashSet<>();
     private boolean ironman = false;
     private boolean recommended = false;
+    private QuestGraph questGraph;
 
     public Builder withName(String name) {
       this.name = name;
@@ -755,6 +1118,11 @@ public class Player {
       return this;
     }
 
+    public Builder withQuestGraph(QuestGraph questGraph) {
+      this.questGraph = questGraph;
+      return this;
+    }
+
     public Player build() {
       return new Player(this);
     }
@@ -0,0 +1,200 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Cache of data loaded for a player by name.
+ *
+ * Loaded values are fresh for the time to live, after which they are stale. A stale value is still
+ * returned while it is revalidated in the background, until the stale period has also passed.
+ * Concurrent requests for the same player share a single load. Failed loads are not cached. The
+ * least recently used value is evicted when the cache is full.
+ *
+ * Stale values are revalidated on the given executor, which should be bounded and not shared with
+ * unrelated work, as loads block on upstream services.
+ *
+ * @param <V> the type of data
+ * @author Darren S. White
+ */
+class PlayerDataCache<V> {
+
+  private final Duration ttl;
+  private final Duration stale;
+  private final Clock clock;
+  private final Executor executor;
+  private final Map<String, Entry<V>> entries;
+  private final ConcurrentMap<String, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new {@link PlayerDataCache}.
+   *
+   * @param ttl the time values are fresh for
+   * @param stale the time stale values are returned for while revalidating
+   * @param size the maximum number of values
+   * @param executor the executor used to revalidate stale values
+   */
+  PlayerDataCache(Duration ttl, Duration stale, int size, Executor executor) {
+    this(ttl, stale, size, Clock.systemUTC(), executor);
+  }
+
+  PlayerDataCache(Duration ttl, Duration stale, int size, Clock clock, Executor executor) {
+    this.ttl = ttl;
+    this.stale = stale;
+    this.clock = clock;
+    this.executor = executor;
+    this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+        return size() > size;
+      }
+    });
+  }
+
+  /**
+   * Returns the value for the specified player, loading it if there is no fresh or stale value.
+   *
+   * @param name the name of the player
+   * @param loader the loader used to load the value
+   * @return the value
+   * @throws IOException if the value could not be loaded
+   * @throws InterruptedIOException if the thread is interrupted while waiting for the load
+   */
+  V get(String name, Loader<V> loader) throws IOException {
+    String key = name.trim().toLowerCase(Locale.ROOT);
+    Entry<V> entry = entries.get(key);
+
+    if (entry != null) {
+      Instant now = clock.instant();
+      Instant expires = entry.loaded.plus(ttl);
+
+      if (now.isBefore(expires)) {
+        return entry.value;
+      } else if (now.isBefore(expires.plus(stale))) {
+        revalidate(key, name, loader);
+
+        return entry.value;
+      }
+    }
+
+    try {
+      return load(key, name, loader).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted loading player: " + name);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      } else if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Load the value for the specified player in the background, unless a load is already in
+   * progress. The load is registered before it is queued, so concurrent requests queue a single
+   * load. The stale value is kept if the executor rejects the load, and the load is tried again by
+   * the next request.
+   */
+  private void revalidate(String key, String name, Loader<V> loader) {
+    CompletableFuture<V> future = new CompletableFuture<>();
+
+    if (loading.putIfAbsent(key, future) != null) {
+      return;
+    }
+
+    try {
+      executor.execute(() -> load(key, name, loader, future));
+    } catch (RejectedExecutionException e) {
+      // the stale value is returned until the executor has capacity
+      loading.remove(key, future);
+      future.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Load the value for the specified player, or join the load which is already in progress.
+   *
+   * @param key the normalized name of the player
+   * @param name the name of the player
+   * @param loader the loader used to load the value
+   * @return the future value
+   */
+  private CompletableFuture<V> load(String key, String name, Loader<V> loader) {
+    CompletableFuture<V> future = new CompletableFuture<>();
+    CompletableFuture<V> existing = loading.putIfAbsent(key, future);
+
+    if (existing != null) {
+      return existing;
+    }
+
+    load(key, name, loader, future);
+
+    return future;
+  }
+
+  /**
+   * Load the value for the specified player, and complete the registered future with it.
+   *
+   * @param key the normalized name of the player
+   * @param name the name of the player
+   * @param loader the loader used to load the value
+   * @param future the future registered for the load
+   */
+  private void load(String key, String name, Loader<V> loader, CompletableFuture<V> future) {
+    try {
+      V value = loader.load(name);
+
+      entries.put(key, new Entry<>(value, clock.instant()));
+      future.complete(value);
+    } catch (IOException | RuntimeException e) {
+      future.completeExceptionally(e);
+    } finally {
+      loading.remove(key, future);
+    }
+  }
+
+  /**
+   * Function used to load the data for a player.
+   *
+   * @param <V> the type of data
+   */
+  @FunctionalInterface
+  interface Loader<V> {
+
+    /**
+     * Load the data for the specified player.
+     *
+     * @param name the name of the player
+     * @return the data
+     * @throws IOException if the data could not be loaded
+     */
+    V load(String name) throws IOException;
+  }
+
+  private static final class Entry<V> {
+
+    private final V value;
+    private final Instant loaded;
+
+    private Entry(V value, Instant loaded) {
+      this.value = value;
+      this.loaded = loaded;
+    }
+  }
+}
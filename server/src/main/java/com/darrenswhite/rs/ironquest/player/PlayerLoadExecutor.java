@@ -0,0 +1,97 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Component} for loading player data from upstream services in the background.
+ *
+ * Loads run on a bounded pool of daemon threads with a bounded queue, so slow upstream services
+ * cannot create threads without limit or starve work on shared pools. Tasks are rejected when the
+ * queue is full. The pool is shut down with the application context.
+ *
+ * @author Darren S. White
+ */
+@Component
+public class PlayerLoadExecutor implements DisposableBean {
+
+  /**
+   * Default maximum number of concurrent loads.
+   */
+  public static final int DEFAULT_THREADS = 16;
+
+  /**
+   * Default maximum number of loads waiting for a thread.
+   */
+  public static final int DEFAULT_QUEUE_SIZE = 64;
+
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * Create a new {@link PlayerLoadExecutor} with the default number of threads and queue size.
+   */
+  public PlayerLoadExecutor() {
+    this(DEFAULT_THREADS, DEFAULT_QUEUE_SIZE);
+  }
+
+  /**
+   * Create a new {@link PlayerLoadExecutor}.
+   *
+   * @param threads the maximum number of concurrent loads
+   * @param queueSize the maximum number of loads waiting for a thread
+   */
+  @Autowired
+  public PlayerLoadExecutor(@Value("${player.load.threads}") int threads,
+      @Value("${player.load.queue}") int queueSize) {
+    AtomicInteger count = new AtomicInteger();
+
+    this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(queueSize), runnable -> {
+      Thread thread = new Thread(runnable, "player-load-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Run the task in the background.
+   *
+   * @param task the task
+   * @throws RejectedExecutionException if the queue is full or the executor is shut down
+   */
+  public void execute(Runnable task) {
+    executor.execute(task);
+  }
+
+  /**
+   * Run the task in the background. Cancelling the returned {@link Future} interrupts the task.
+   *
+   * @param task the task
+   * @param <T> the type of result
+   * @return the future result
+   * @throws RejectedExecutionException if the queue is full or the executor is shut down
+   */
+  public <T> Future<T> submit(Callable<T> task) {
+    return executor.submit(task);
+  }
+
+  /**
+   * Interrupt running loads and stop the threads.
+   */
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
@@ -1,7 +1,7 @@
 package com.darrenswhite.rs.ironquest.player;
 
 /**
- * An enum representing the priority of a {@link QuestEntry}.
+ * An enum representing the priority of a quest for a {@link Player}.
  *
  * @author Darren S. White
  */
@@ -0,0 +1,423 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.QuestGraph;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The {@link QuestStatus} and {@link QuestPriority} of each {@link Quest} for a {@link Player},
+ * held as dense bitsets indexed by {@link QuestGraph} index.
+ *
+ * The number of completed quests and the quest points for completed quests are maintained as
+ * statuses change. Sets of quests are returned as views of the bitsets, so they are created in
+ * constant time and iterated without creating an entry for each quest.
+ *
+ * The bitsets are shared with copies and views until either is modified, at which point the
+ * bitsets are copied. This allows a {@link Player} to be copied in constant time.
+ *
+ * Quest states are equal if they contain the same quest indexes, so they should only be compared
+ * with states for the same {@link QuestGraph}.
+ *
+ * @author Darren S. White
+ */
+class QuestStates {
+
+  private static final QuestPriority[] PRIORITIES = QuestPriority.values();
+  private static final byte NORMAL = (byte) QuestPriority.NORMAL.ordinal();
+
+  private final QuestGraph questGraph;
+  private final long[] quests;
+  private final int size;
+  private long[] completed;
+  private long[] incomplete;
+  private long[] inProgress;
+  private long[] prioritised;
+  private byte[] priorities;
+  private int completedCount;
+  private int prioritisedCount;
+  private int questPoints;
+  private boolean shared;
+
+  /**
+   * Create new {@link QuestStates} for the specified {@link Quest}s. All quests are not started
+   * and have normal priority.
+   *
+   * @param questGraph the quest graph which assigns each quest an index
+   * @param quests the quests
+   */
+  QuestStates(QuestGraph questGraph, Set<Quest> quests) {
+    int length = words(questGraph.getQuests().size());
+
+    this.questGraph = questGraph;
+    this.quests = new long[length];
+    this.completed = new long[length];
+    this.inProgress = new long[length];
+    this.prioritised = new long[length];
+    this.priorities = new byte[questGraph.getQuests().size()];
+
+    for (Quest quest : quests) {
+      set(this.quests, questGraph.indexOf(quest));
+    }
+
+    this.incomplete = this.quests.clone();
+    this.size = count(this.quests);
+
+    Arrays.fill(priorities, NORMAL);
+  }
+
+  private QuestStates(QuestStates states) {
+    this.questGraph = states.questGraph;
+    this.quests = states.quests;
+    this.size = states.size;
+    this.completed = states.completed;
+    this.incomplete = states.incomplete;
+    this.inProgress = states.inProgress;
+    this.prioritised = states.prioritised;
+    this.priorities = states.priorities;
+    this.completedCount = states.completedCount;
+    this.prioritisedCount = states.prioritisedCount;
+    this.questPoints = states.questPoints;
+    this.shared = true;
+  }
+
+  /**
+   * Returns whether the {@link Quest} at the specified index is present.
+   *
+   * @param index the quest index
+   * @return <tt>true</tt> if the quest is present; <tt>false</tt> otherwise
+   */
+  boolean contains(int index) {
+    return index >= 0 && get(quests, index);
+  }
+
+  /**
+   * Returns the {@link QuestStatus} of the {@link Quest} at the specified index.
+   *
+   * @param index the quest index
+   * @return the status or <tt>null</tt> if the quest is not present
+   */
+  QuestStatus getStatus(int index) {
+    if (!contains(index)) {
+      return null;
+    } else if (get(completed, index)) {
+      return QuestStatus.COMPLETED;
+    } else if (get(inProgress, index)) {
+      return QuestStatus.IN_PROGRESS;
+    } else {
+      return QuestStatus.NOT_STARTED;
+    }
+  }
+
+  /**
+   * Returns whether the {@link Quest} at the specified index is completed.
+   *
+   * @param index the quest index
+   * @return <tt>true</tt> if the quest is present and completed; <tt>false</tt> otherwise
+   */
+  boolean isCompleted(int index) {
+    return index >= 0 && get(completed, index);
+  }
+
+  /**
+   * Returns whether the {@link Quest} at the specified index is not completed and has a priority
+   * greater than normal.
+   *
+   * @param index the quest index
+   * @return <tt>true</tt> if the quest is present and prioritised; <tt>false</tt> otherwise
+   */
+  boolean isPrioritised(int index) {
+    return index >= 0 && get(prioritised, index);
+  }
+
+  /**
+   * Returns whether any {@link Quest}s are prioritised.
+   *
+   * @return <tt>true</tt> if any quests are prioritised; <tt>false</tt> otherwise
+   * @see QuestStates#getPrioritisedQuests()
+   */
+  boolean hasPrioritisedQuests() {
+    return prioritisedCount > 0;
+  }
+
+  /**
+   * Returns the {@link QuestPriority} of the {@link Quest} at the specified index.
+   *
+   * @param index the quest index
+   * @return the priority or <tt>null</tt> if the quest is not present
+   */
+  QuestPriority getPriority(int index) {
+    return contains(index) ? PRIORITIES[priorities[index]] : null;
+  }
+
+  /**
+   * Set the {@link QuestStatus} of the {@link Quest} at the specified index.
+   *
+   * @param index the quest index
+   * @param status the status
+   * @throws IllegalArgumentException if the quest is not present
+   */
+  void setStatus(int index, QuestStatus status) {
+    checkContains(index);
+    ensureOwned();
+
+    boolean wasCompleted = get(completed, index);
+    boolean isCompleted = status == QuestStatus.COMPLETED;
+
+    if (wasCompleted != isCompleted) {
+      int points = questGraph.getQuest(index).getRewards().getQuestPoints();
+
+      if (isCompleted) {
+        set(completed, index);
+        clear(incomplete, index);
+        completedCount++;
+        questPoints += points;
+      } else {
+        clear(completed, index);
+        set(incomplete, index);
+        completedCount--;
+        questPoints -= points;
+      }
+    }
+
+    if (status == QuestStatus.IN_PROGRESS) {
+      set(inProgress, index);
+    } else {
+      clear(inProgress, index);
+    }
+
+    updatePrioritised(index);
+  }
+
+  /**
+   * Set the {@link QuestPriority} of the {@link Quest} at the specified index.
+   *
+   * @param index the quest index
+   * @param priority the priority
+   * @throws IllegalArgumentException if the quest is not present
+   */
+  void setPriority(int index, QuestPriority priority) {
+    checkContains(index);
+    ensureOwned();
+
+    priorities[index] = (byte) priority.ordinal();
+
+    updatePrioritised(index);
+  }
+
+  /**
+   * Returns the total number of quest points for all completed {@link Quest}s.
+   *
+   * @return number of quest points
+   */
+  int getQuestPoints() {
+    return questPoints;
+  }
+
+  /**
+   * Returns a view of all {@link Quest}s.
+   *
+   * @return set of quests
+   */
+  Set<Quest> getQuests() {
+    return new QuestSet(questGraph, quests, size);
+  }
+
+  /**
+   * Returns a view of the {@link Quest}s which are completed, as they are at the time of calling.
+   *
+   * @return set of completed quests
+   */
+  Set<Quest> getCompletedQuests() {
+    shared = true;
+    return new QuestSet(questGraph, completed, completedCount);
+  }
+
+  /**
+   * Returns a view of the {@link Quest}s which are not completed, as they are at the time of
+   * calling.
+   *
+   * @return set of incomplete quests
+   */
+  Set<Quest> getIncompleteQuests() {
+    shared = true;
+    return new QuestSet(questGraph, incomplete, size - completedCount);
+  }
+
+  /**
+   * Returns a view of the {@link Quest}s which are not completed and have a priority greater than
+   * normal, as they are at the time of calling.
+   *
+   * @return set of prioritised quests
+   * @see QuestPriority#greaterThanNormal()
+   */
+  Set<Quest> getPrioritisedQuests() {
+    shared = true;
+    return new QuestSet(questGraph, prioritised, prioritisedCount);
+  }
+
+  /**
+   * Returns a copy of these {@link QuestStates} which shares all bitsets with this instance.
+   *
+   * @return the new quest states instance
+   */
+  QuestStates copy() {
+    shared = true;
+    return new QuestStates(this);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof QuestStates)) {
+      return false;
+    }
+    QuestStates that = (QuestStates) o;
+    return Arrays.equals(quests, that.quests);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final int hashCode() {
+    return Arrays.hashCode(quests);
+  }
+
+  /**
+   * Update the prioritised bit of the {@link Quest} at the specified index from its status and
+   * priority.
+   *
+   * @param index the quest index
+   */
+  private void updatePrioritised(int index) {
+    boolean wasPrioritised = get(prioritised, index);
+    boolean isPrioritised = !get(completed, index) && priorities[index] > NORMAL;
+
+    if (wasPrioritised != isPrioritised) {
+      if (isPrioritised) {
+        set(prioritised, index);
+        prioritisedCount++;
+      } else {
+        clear(prioritised, index);
+        prioritisedCount--;
+      }
+    }
+  }
+
+  /**
+   * Copy the modifiable bitsets if they are shared with a copy or a view.
+   */
+  private void ensureOwned() {
+    if (shared) {
+      completed = completed.clone();
+      incomplete = incomplete.clone();
+      inProgress = inProgress.clone();
+      prioritised = prioritised.clone();
+      priorities = priorities.clone();
+      shared = false;
+    }
+  }
+
+  private void checkContains(int index) {
+    if (!contains(index)) {
+      throw new IllegalArgumentException("Unknown quest index: " + index);
+    }
+  }
+
+  private static int words(int bits) {
+    return (bits + Long.SIZE - 1) / Long.SIZE;
+  }
+
+  private static boolean get(long[] words, int index) {
+    return (words[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static void set(long[] words, int index) {
+    words[index >>> 6] |= 1L << index;
+  }
+
+  private static void clear(long[] words, int index) {
+    words[index >>> 6] &= ~(1L << index);
+  }
+
+  private static int count(long[] words) {
+    int count = 0;
+
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+
+    return count;
+  }
+
+  /**
+   * An unmodifiable {@link Set} view of a bitset of {@link Quest} indexes.
+   */
+  private static final class QuestSet extends AbstractSet<Quest> {
+
+    private final QuestGraph questGraph;
+    private final long[] words;
+    private final int size;
+
+    QuestSet(QuestGraph questGraph, long[] words, int size) {
+      this.questGraph = questGraph;
+      this.words = words;
+      this.size = size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Quest)) {
+        return false;
+      }
+
+      int index = questGraph.indexOf((Quest) o);
+
+      return index >= 0 && get(words, index);
+    }
+
+    @Override
+    public Iterator<Quest> iterator() {
+      return new Iterator<>() {
+        private int word;
+        private long bits = words.length > 0 ? words[0] : 0;
+
+        @Override
+        public boolean hasNext() {
+          while (bits == 0 && word < words.length - 1) {
+            bits = words[++word];
+          }
+
+          return bits != 0;
+        }
+
+        @Override
+        public Quest next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+
+          int index = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+
+          bits &= bits - 1;
+
+          return questGraph.getQuest(index);
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -1,14 +1,16 @@
 package com.darrenswhite.rs.ironquest.player;
 
 import com.darrenswhite.rs.ironquest.quest.RuneMetricsQuest;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
@@ -31,38 +33,98 @@ public class RuneMetricsService {
 
   private final String url;
   private final ObjectMapper objectMapper;
+  private final UpstreamClient upstreamClient;
+  private final PlayerDataCache<Set<RuneMetricsQuest>> cache;
 
+  /**
+   * Create a new {@link RuneMetricsService} which does not cache quest data.
+   *
+   * @param url the runemetrics url format
+   * @param objectMapper the object mapper used to read quest data
+   */
+  public RuneMetricsService(String url, ObjectMapper objectMapper) {
+    this(url, objectMapper, new UpstreamClient(), Duration.ZERO, Duration.ZERO, 0,
+        new PlayerLoadExecutor());
+  }
+
+  /**
+   * Create a new {@link RuneMetricsService} which caches quest data.
+   *
+   * @param url the runemetrics url format
+   * @param objectMapper the object mapper used to read quest data
+   * @param upstreamClient the client used to read runemetrics
+   * @param ttl the time quest data is fresh for
+   * @param stale the time stale quest data is used for while it is reloaded
+   * @param size the maximum number of players to cache quest data for
+   * @param loadExecutor the executor used to reload stale data
+   * @see PlayerDataCache
+   */
   @Autowired
-  public RuneMetricsService(@Value("${runemetrics.url}") String url, ObjectMapper objectMapper) {
+  public RuneMetricsService(@Value("${runemetrics.url}") String url, ObjectMapper objectMapper,
+      UpstreamClient upstreamClient, @Value("${player.cache.ttl}") Duration ttl,
+      @Value("${player.cache.stale}") Duration stale, @Value("${player.cache.size}") int size,
+      PlayerLoadExecutor loadExecutor) {
     this.url = url;
     this.objectMapper = objectMapper;
+    this.upstreamClient = upstreamClient;
+    this.cache = new PlayerDataCache<>(ttl, stale, size, loadExecutor::execute);
   }
 
   /**
    * Retrieve quest data for the given username.
    *
+   * Quest data is cached, and concurrent requests for the same player share a single request to
+   * runemetrics.
+   *
    * @param name the username
    * @return set of quests
    */
   public Set<RuneMetricsQuest> load(String name) {
-    Set<RuneMetricsQuest> quests = new LinkedHashSet<>();
-
     LOG.debug("Loading quests for player: {}...", name);
 
     try {
-      String runeMetricsUrl = String
-          .format(url, URLEncoder.encode(name, StandardCharsets.UTF_8.toString()));
+      return cache.get(name, this::fetch);
+    } catch (IOException e) {
+      LOG.warn("Failed to load quests for player: {}", name, e);
+    }
 
-      try (InputStreamReader in = new InputStreamReader(new URL(runeMetricsUrl).openStream())) {
-        JsonNode rmQuestsJson = objectMapper.readTree(in).get(QUESTS_ROOT);
+    return new LinkedHashSet<>();
+  }
+
+  /**
+   * Fetch quest data for the given username from runemetrics.
+   *
+   * The response is streamed, and each quest is bound as soon as its tokens are available.
+   *
+   * @param name the username
+   * @return set of quests
+   * @throws IOException if the quest data could not be read
+   */
+  private Set<RuneMetricsQuest> fetch(String name) throws IOException {
+    Set<RuneMetricsQuest> quests = new LinkedHashSet<>();
+    String runeMetricsUrl = String
+        .format(url, URLEncoder.encode(name, StandardCharsets.UTF_8.toString()));
 
-        quests.addAll(objectMapper.readValue(objectMapper.treeAsTokens(rmQuestsJson), new TypeReference<Set<RuneMetricsQuest>>() {
-        }));
+    try (JsonParser parser = objectMapper.getFactory()
+        .createParser(upstreamClient.open(URI.create(runeMetricsUrl)))) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected runemetrics object");
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+
+        if (QUESTS_ROOT.equals(field) && token == JsonToken.START_ARRAY) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            quests.add(objectMapper.readValue(parser, RuneMetricsQuest.class));
+          }
+        } else {
+          parser.skipChildren();
+        }
       }
-    } catch (IOException e) {
-      LOG.warn("Failed to load quests for player: {}", name, e);
     }
 
-    return quests;
+    return Collections.unmodifiableSet(quests);
   }
 }
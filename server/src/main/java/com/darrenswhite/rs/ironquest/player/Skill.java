@@ -4,7 +4,6 @@ import java.text.DecimalFormat;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.stream.Stream;
 
 /**
  * An enum representing a player skill.
@@ -94,12 +93,23 @@ public enum Skill {
    */
   private static final char[] XP_FORMATS = {'k', 'm', 'b'};
 
+  private static final Skill[] SKILLS_BY_ID;
+
   static {
     Map<Skill, Double> initialXps = new EnumMap<>(Skill.class);
     for (Skill skill : values()) {
       initialXps.put(skill, skill == CONSTITUTION ? XP_TABLE[10] : 0);
     }
     INITIAL_XPS = Collections.unmodifiableMap(initialXps);
+
+    int maxId = 0;
+    for (Skill skill : values()) {
+      maxId = Math.max(maxId, skill.id);
+    }
+    SKILLS_BY_ID = new Skill[maxId + 1];
+    for (Skill skill : values()) {
+      SKILLS_BY_ID[skill.id] = skill;
+    }
   }
 
   private final int id;
@@ -158,7 +168,7 @@ public enum Skill {
    * @return a skill with the given id; or null if not found
    */
   public static Skill getById(int id) {
-    return Stream.of(values()).filter(skill -> skill.id == id).findFirst().orElse(null);
+    return id >= 0 && id < SKILLS_BY_ID.length ? SKILLS_BY_ID[id] : null;
   }
 
   /**
@@ -193,6 +203,8 @@ public enum Skill {
   /**
    * Returns the level for this skill at the specified xp.
    *
+   * The level is found using a binary search of the xp table, which is in ascending order.
+   *
    * @param xp the xp
    * @return the level
    */
@@ -200,17 +212,20 @@ public enum Skill {
     checkXPRange(xp);
 
     double[] table = getXpTable();
-    int max = Math.min(maxLevel, table.length - 1);
-    int level = 1;
+    int low = 1;
+    int high = Math.min(maxLevel, table.length - 1);
+
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
 
-    for (int i = max; i > 0; i--) {
-      if (xp >= table[i]) {
-        level = i;
-        break;
+      if (xp >= table[mid]) {
+        low = mid;
+      } else {
+        high = mid - 1;
       }
     }
 
-    return level;
+    return low;
   }
 
   /**
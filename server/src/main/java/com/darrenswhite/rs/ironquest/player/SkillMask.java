@@ -0,0 +1,112 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Utility methods for a set of {@link Skill}s represented as an <tt>int</tt> bitmask.
+ *
+ * Each skill is the bit at its {@link Skill#ordinal()}, so a mask can be compared, tested and
+ * stored without creating a {@link Set}.
+ *
+ * @author Darren S. White
+ */
+public final class SkillMask {
+
+  /**
+   * The mask which contains no skills.
+   */
+  public static final int NONE = 0;
+
+  private static final Skill[] SKILLS = Skill.values();
+
+  static {
+    if (SKILLS.length > Integer.SIZE) {
+      throw new IllegalStateException("Too many skills for an int mask: " + SKILLS.length);
+    }
+  }
+
+  private SkillMask() {
+  }
+
+  /**
+   * Returns the mask of a single {@link Skill}.
+   *
+   * @param skill the skill
+   * @return the mask
+   */
+  public static int of(Skill skill) {
+    return 1 << skill.ordinal();
+  }
+
+  /**
+   * Returns the mask of the specified {@link Skill}s.
+   *
+   * @param skills the skills
+   * @return the mask
+   */
+  public static int of(Collection<Skill> skills) {
+    int mask = NONE;
+
+    for (Skill skill : skills) {
+      mask |= of(skill);
+    }
+
+    return mask;
+  }
+
+  /**
+   * Tests if the mask contains the specified {@link Skill}.
+   *
+   * @param mask the mask
+   * @param skill the skill
+   * @return <tt>true</tt> if the mask contains the skill; <tt>false</tt> otherwise
+   */
+  public static boolean contains(int mask, Skill skill) {
+    return (mask & of(skill)) != 0;
+  }
+
+  /**
+   * Tests if the masks contain the specified mask.
+   *
+   * @param masks the masks
+   * @param mask the mask to find
+   * @return <tt>true</tt> if the mask is one of the masks; <tt>false</tt> otherwise
+   */
+  public static boolean contains(int[] masks, int mask) {
+    for (int m : masks) {
+      if (m == mask) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the number of {@link Skill}s in the mask.
+   *
+   * @param mask the mask
+   * @return the number of skills
+   */
+  public static int size(int mask) {
+    return Integer.bitCount(mask);
+  }
+
+  /**
+   * Returns a new {@link Set} of the {@link Skill}s in the mask.
+   *
+   * @param mask the mask
+   * @return the skills
+   */
+  public static Set<Skill> toSet(int mask) {
+    Set<Skill> skills = EnumSet.noneOf(Skill.class);
+
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      skills.add(SKILLS[Integer.numberOfTrailingZeros(bits)]);
+    }
+
+    return skills;
+  }
+}
@@ -0,0 +1,170 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.QuestGraph;
+
+/**
+ * The highest level of each {@link Skill} required by the incomplete {@link Quest}s, and by the
+ * prioritised quests, of a {@link Player}.
+ *
+ * For each skill, the {@link QuestGraph} orders the quests which require it by the required level,
+ * highest first. A cursor for each skill points at the first of those quests which is incomplete,
+ * and another at the first which is prioritised, so the highest required level is a lookup. A
+ * cursor moves forward when the quest it points at is completed or no longer prioritised, and is
+ * found again from the start when a quest becomes incomplete or prioritised.
+ *
+ * The cursors are shared with copies until either is modified, at which point they are copied.
+ *
+ * @author Darren S. White
+ * @see QuestGraph#getQuestsBySkillRequirement(Skill, boolean, boolean)
+ */
+class SkillRequirementTargets {
+
+  private static final Skill[] SKILLS = Skill.values();
+
+  private final QuestGraph questGraph;
+  private final boolean ironman;
+  private final boolean recommended;
+  private final int[][] questsBySkill;
+  private int[] incomplete;
+  private int[] prioritised;
+  private boolean shared;
+
+  /**
+   * Create new {@link SkillRequirementTargets} for the current states of the quests.
+   *
+   * @param questGraph the quest graph which orders the quests by required level
+   * @param ironman <tt>true</tt> if ironman requirements apply; <tt>false</tt> otherwise
+   * @param recommended <tt>true</tt> if recommended requirements apply; <tt>false</tt> otherwise
+   * @param states the quest states
+   */
+  SkillRequirementTargets(QuestGraph questGraph, boolean ironman, boolean recommended,
+      QuestStates states) {
+    this.questGraph = questGraph;
+    this.ironman = ironman;
+    this.recommended = recommended;
+    this.questsBySkill = new int[SKILLS.length][];
+    this.incomplete = new int[SKILLS.length];
+    this.prioritised = new int[SKILLS.length];
+
+    for (Skill skill : SKILLS) {
+      int s = skill.ordinal();
+
+      questsBySkill[s] = questGraph.getQuestsBySkillRequirement(skill, ironman, recommended);
+      incomplete[s] = find(states, s, 0, false);
+      prioritised[s] = find(states, s, 0, true);
+    }
+  }
+
+  private SkillRequirementTargets(SkillRequirementTargets targets) {
+    this.questGraph = targets.questGraph;
+    this.ironman = targets.ironman;
+    this.recommended = targets.recommended;
+    this.questsBySkill = targets.questsBySkill;
+    this.incomplete = targets.incomplete;
+    this.prioritised = targets.prioritised;
+    this.shared = true;
+  }
+
+  /**
+   * Returns the highest level of the {@link Skill} required by the incomplete or prioritised
+   * {@link Quest}s.
+   *
+   * @param skill the skill
+   * @param prioritisedOnly <tt>true</tt> for prioritised quests; <tt>false</tt> for incomplete
+   * quests
+   * @return the highest required level; or 0 if no quests require the skill
+   */
+  int getLevel(Skill skill, boolean prioritisedOnly) {
+    int s = skill.ordinal();
+    int cursor = prioritisedOnly ? prioritised[s] : incomplete[s];
+
+    if (cursor >= questsBySkill[s].length) {
+      return 0;
+    }
+
+    return questGraph.getSkillRequirementLevel(questsBySkill[s][cursor], skill, ironman,
+        recommended);
+  }
+
+  /**
+   * Update the cursors after the status or priority of the {@link Quest} at the specified index
+   * has changed.
+   *
+   * @param states the quest states
+   * @param index the quest index
+   */
+  void update(QuestStates states, int index) {
+    for (Skill skill : SKILLS) {
+      if (questGraph.getSkillRequirementLevel(index, skill, ironman, recommended) > 0) {
+        int s = skill.ordinal();
+
+        ensureOwned();
+
+        incomplete[s] = update(states, s, incomplete[s], index, false);
+        prioritised[s] = update(states, s, prioritised[s], index, true);
+      }
+    }
+  }
+
+  /**
+   * Returns a copy of these {@link SkillRequirementTargets} which shares the cursors with this
+   * instance.
+   *
+   * @return the new targets instance
+   */
+  SkillRequirementTargets copy() {
+    shared = true;
+    return new SkillRequirementTargets(this);
+  }
+
+  /**
+   * Returns the cursor for the skill after the {@link Quest} at the specified index has changed.
+   */
+  private int update(QuestStates states, int skill, int cursor, int index,
+      boolean prioritisedOnly) {
+    int[] quests = questsBySkill[skill];
+
+    if (matches(states, index, prioritisedOnly)) {
+      return find(states, skill, 0, prioritisedOnly);
+    } else if (cursor < quests.length && quests[cursor] == index) {
+      return find(states, skill, cursor + 1, prioritisedOnly);
+    } else {
+      return cursor;
+    }
+  }
+
+  /**
+   * Returns the position of the first quest which requires the skill, from the specified
+   * position, which is incomplete or prioritised.
+   */
+  private int find(QuestStates states, int skill, int from, boolean prioritisedOnly) {
+    int[] quests = questsBySkill[skill];
+    int cursor = from;
+
+    while (cursor < quests.length && !matches(states, quests[cursor], prioritisedOnly)) {
+      cursor++;
+    }
+
+    return cursor;
+  }
+
+  private static boolean matches(QuestStates states, int index, boolean prioritisedOnly) {
+    if (prioritisedOnly) {
+      return states.isPrioritised(index);
+    } else {
+      return states.contains(index) && !states.isCompleted(index);
+    }
+  }
+
+  /**
+   * Copy the cursors if they are shared with a copy.
+   */
+  private void ensureOwned() {
+    if (shared) {
+      incomplete = incomplete.clone();
+      prioritised = prioritised.clone();
+      shared = false;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Component} for reading player data from upstream services.
+ *
+ * A single {@link HttpClient} is shared by all requests so that connections and TLS sessions are
+ * reused. HTTP/2 is used where the upstream supports it. The number of concurrent requests to each
+ * host is bounded, and response bodies are streamed rather than buffered.
+ *
+ * URIs which do not use the <tt>http</tt> or <tt>https</tt> scheme are opened directly.
+ *
+ * @author Darren S. White
+ */
+@Component
+public class UpstreamClient {
+
+  /**
+   * Default time allowed to connect to an upstream host.
+   */
+  public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+  /**
+   * Default time allowed for an upstream request to receive a response.
+   */
+  public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  /**
+   * Default maximum number of concurrent requests to each upstream host.
+   */
+  public static final int DEFAULT_HOST_CONCURRENCY = 16;
+
+  private final HttpClient client;
+  private final Duration requestTimeout;
+  private final int hostConcurrency;
+  private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new {@link UpstreamClient} with the default timeouts and concurrency.
+   */
+  public UpstreamClient() {
+    this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT, DEFAULT_HOST_CONCURRENCY);
+  }
+
+  /**
+   * Create a new {@link UpstreamClient}.
+   *
+   * @param connectTimeout the time allowed to connect to an upstream host
+   * @param requestTimeout the time allowed for a request to receive a response
+   * @param hostConcurrency the maximum number of concurrent requests to each upstream host
+   */
+  @Autowired
+  public UpstreamClient(@Value("${upstream.timeout.connect}") Duration connectTimeout,
+      @Value("${upstream.timeout.request}") Duration requestTimeout,
+      @Value("${upstream.host.concurrency}") int hostConcurrency) {
+    this.client = HttpClient.newBuilder().version(Version.HTTP_2).connectTimeout(connectTimeout)
+        .followRedirects(Redirect.NORMAL).build();
+    this.requestTimeout = requestTimeout;
+    this.hostConcurrency = hostConcurrency;
+  }
+
+  /**
+   * Open a stream of the response body for the specified {@link URI}.
+   *
+   * The stream must be closed to allow further requests to the same host.
+   *
+   * @param uri the uri to read
+   * @return the response body
+   * @throws IOException if the request failed or was not successful
+   */
+  public InputStream open(URI uri) throws IOException {
+    String scheme = uri.getScheme();
+
+    if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+      return uri.toURL().openStream();
+    }
+
+    Semaphore permits = hostPermits.computeIfAbsent(uri.getHost().toLowerCase(Locale.ROOT),
+        host -> new Semaphore(hostConcurrency));
+
+    try {
+      if (!permits.tryAcquire(requestTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        throw new IOException("Too many concurrent requests to host: " + uri.getHost());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(e.getMessage());
+    }
+
+    try {
+      HttpRequest request = HttpRequest.newBuilder().uri(uri).timeout(requestTimeout).GET()
+          .build();
+      HttpResponse<InputStream> response = client.send(request, BodyHandlers.ofInputStream());
+
+      if (response.statusCode() / 100 != 2) {
+        response.body().close();
+        throw new IOException("Unexpected response status " + response.statusCode() + ": " + uri);
+      }
+
+      return new PermitInputStream(response.body(), permits);
+    } catch (InterruptedException e) {
+      permits.release();
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(e.getMessage());
+    } catch (IOException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Response body which releases the host permit when closed.
+   */
+  private static final class PermitInputStream extends FilterInputStream {
+
+    private final Semaphore permits;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private PermitInputStream(InputStream in, Semaphore permits) {
+      super(in);
+      this.permits = permits;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed.compareAndSet(false, true)) {
+        try {
+          super.close();
+        } finally {
+          permits.release();
+        }
+      }
+    }
+  }
+}
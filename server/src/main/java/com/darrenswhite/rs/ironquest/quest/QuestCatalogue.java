@@ -0,0 +1,556 @@
+package com.darrenswhite.rs.ironquest.quest;
+
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.requirement.CombatRequirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestPointsRequirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirements;
+import com.darrenswhite.rs.ironquest.quest.requirement.Requirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.SkillRequirement;
+import com.darrenswhite.rs.ironquest.quest.reward.LampReward;
+import com.darrenswhite.rs.ironquest.quest.reward.LampType;
+import com.darrenswhite.rs.ironquest.quest.reward.QuestRewards;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.core.io.Resource;
+
+/**
+ * A compact binary catalogue of {@link Quest}s.
+ *
+ * The catalogue is generated at build time from the JSON quest data, which remains the source of
+ * truth, and is read without any reflection or object id resolution. Catalogues on the file system
+ * are memory mapped. Reading a catalogue produces the same {@link Quest}, {@link
+ * QuestRequirements}, {@link QuestRewards} and {@link LampReward} graph as the JSON quest data, in
+ * the same order.
+ *
+ * Enum values are stored by ordinal, so a catalogue must be generated by the same version of the
+ * application which reads it.
+ *
+ * @author Darren S. White
+ */
+public final class QuestCatalogue {
+
+  /**
+   * File extension of quest catalogues.
+   */
+  public static final String EXTENSION = ".bin";
+
+  private static final int MAGIC = 0x49515354;
+  private static final short VERSION = 1;
+
+  private static final int HAS_REQUIREMENTS = 1;
+  private static final int HAS_REWARDS = 1 << 1;
+  private static final int HAS_COMBAT = 1;
+  private static final int HAS_QUEST_POINTS = 1 << 1;
+  private static final int IRONMAN = 1;
+  private static final int RECOMMENDED = 1 << 1;
+  private static final int EXCLUSIVE = 1;
+  private static final int SINGLE_CHOICE = 1 << 1;
+
+  private static final Skill[] SKILLS = Skill.values();
+  private static final QuestAccess[] ACCESSES = QuestAccess.values();
+  private static final QuestType[] TYPES = QuestType.values();
+  private static final LampType[] LAMP_TYPES = LampType.values();
+
+  private QuestCatalogue() {
+  }
+
+  /**
+   * Generate a quest catalogue from JSON quest data.
+   *
+   * @param args the path of the JSON quest data, followed by the path of the catalogue to write
+   * @throws IOException if the quest data could not be read or the catalogue could not be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("Usage: QuestCatalogue <quests.json> <quests.bin>");
+    }
+
+    Set<Quest> quests;
+
+    try (InputStream in = Files.newInputStream(Path.of(args[0]))) {
+      quests = new ObjectMapper().readValue(in, new TypeReference<LinkedHashSet<Quest>>() {
+      });
+    }
+
+    Path catalogue = Path.of(args[1]);
+
+    if (catalogue.getParent() != null) {
+      Files.createDirectories(catalogue.getParent());
+    }
+
+    try (OutputStream out = Files.newOutputStream(catalogue)) {
+      write(quests, out);
+    }
+  }
+
+  /**
+   * Returns whether the specified {@link Resource} is a quest catalogue.
+   *
+   * @param resource the resource
+   * @return <tt>true</tt> if the resource is a quest catalogue; <tt>false</tt> otherwise
+   */
+  public static boolean isCatalogue(Resource resource) {
+    String filename = resource.getFilename();
+
+    return filename != null && filename.endsWith(EXTENSION);
+  }
+
+  /**
+   * Read the {@link Quest}s from the specified quest catalogue {@link Resource}.
+   *
+   * Resources on the file system are memory mapped, otherwise the resource is read into memory.
+   *
+   * @param resource the catalogue resource
+   * @return the quests in catalogue order
+   * @throws IOException if the catalogue could not be read or is invalid
+   */
+  public static Set<Quest> load(Resource resource) throws IOException {
+    if (resource.isFile()) {
+      try (FileChannel channel = FileChannel
+          .open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+        return read(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+      }
+    }
+
+    try (InputStream in = resource.getInputStream()) {
+      return read(ByteBuffer.wrap(in.readAllBytes()));
+    }
+  }
+
+  /**
+   * Write a quest catalogue for the specified {@link Quest}s.
+   *
+   * @param quests the quests
+   * @param out the stream to write the catalogue to
+   * @throws IOException if the catalogue could not be written
+   */
+  public static void write(Collection<Quest> quests, OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+
+    data.writeInt(MAGIC);
+    data.writeShort(VERSION);
+    data.writeInt(quests.size());
+
+    for (Quest quest : quests) {
+      writeQuest(quest, data);
+    }
+
+    data.flush();
+  }
+
+  /**
+   * Read the {@link Quest}s from the specified quest catalogue.
+   *
+   * @param buffer the catalogue
+   * @return the quests in catalogue order
+   * @throws IOException if the catalogue is invalid
+   */
+  public static Set<Quest> read(ByteBuffer buffer) throws IOException {
+    try {
+      if (buffer.getInt() != MAGIC) {
+        throw new IOException("Invalid quest catalogue");
+      }
+
+      short version = buffer.getShort();
+
+      if (version != VERSION) {
+        throw new IOException("Unsupported quest catalogue version: " + version);
+      }
+
+      int size = buffer.getInt();
+      List<QuestRecord> records = new ArrayList<>(size);
+      Map<Integer, QuestRecord> recordsById = new HashMap<>();
+
+      for (int i = 0; i < size; i++) {
+        QuestRecord record = readQuest(buffer);
+
+        records.add(record);
+        recordsById.put(record.id, record);
+      }
+
+      Set<Quest> quests = new LinkedHashSet<>();
+
+      for (QuestRecord record : records) {
+        quests.add(record.build(recordsById));
+      }
+
+      return quests;
+    } catch (BufferUnderflowException | IllegalArgumentException
+        | ArrayIndexOutOfBoundsException e) {
+      throw new IOException("Invalid quest catalogue", e);
+    }
+  }
+
+  private static void writeQuest(Quest quest, DataOutputStream data) throws IOException {
+    QuestRequirements requirements = quest.getRequirements();
+    QuestRewards rewards = quest.getRewards();
+    int flags = 0;
+
+    if (requirements != QuestRequirements.NONE) {
+      flags |= HAS_REQUIREMENTS;
+    }
+    if (rewards != QuestRewards.NONE) {
+      flags |= HAS_REWARDS;
+    }
+
+    data.writeInt(quest.getId());
+    writeString(quest.getTitle(), data);
+    writeString(quest.getDisplayName(), data);
+    writeOrdinal(quest.getAccess(), data);
+    writeOrdinal(quest.getType(), data);
+    data.writeByte(flags);
+
+    if ((flags & HAS_REQUIREMENTS) != 0) {
+      writeRequirements(requirements, data);
+    }
+    if ((flags & HAS_REWARDS) != 0) {
+      writeRewards(rewards, data);
+    }
+  }
+
+  private static void writeRequirements(QuestRequirements requirements, DataOutputStream data)
+      throws IOException {
+    CombatRequirement combat = requirements.getCombat();
+    QuestPointsRequirement questPoints = requirements.getQuestPoints();
+    int flags = 0;
+
+    if (combat != null) {
+      flags |= HAS_COMBAT;
+    }
+    if (questPoints != null) {
+      flags |= HAS_QUEST_POINTS;
+    }
+
+    data.writeByte(flags);
+
+    if (combat != null) {
+      data.writeInt(combat.getLevel());
+      writeRequirementFlags(combat, data);
+    }
+    if (questPoints != null) {
+      data.writeInt(questPoints.getAmount());
+      writeRequirementFlags(questPoints, data);
+    }
+
+    data.writeShort(requirements.getQuests().size());
+
+    for (QuestRequirement questRequirement : requirements.getQuests()) {
+      data.writeInt(questRequirement.getQuest().getId());
+      writeRequirementFlags(questRequirement, data);
+    }
+
+    data.writeShort(requirements.getSkills().size());
+
+    for (SkillRequirement skillRequirement : requirements.getSkills()) {
+      writeOrdinal(skillRequirement.getSkill(), data);
+      data.writeInt(skillRequirement.getLevel());
+      writeRequirementFlags(skillRequirement, data);
+    }
+  }
+
+  private static void writeRewards(QuestRewards rewards, DataOutputStream data)
+      throws IOException {
+    data.writeInt(rewards.getQuestPoints());
+    data.writeShort(rewards.getXp().size());
+
+    for (Map.Entry<Skill, Double> xp : rewards.getXp().entrySet()) {
+      writeOrdinal(xp.getKey(), data);
+      data.writeDouble(xp.getValue());
+    }
+
+    data.writeShort(rewards.getLamps().size());
+
+    for (LampReward lamp : rewards.getLamps()) {
+      int flags = 0;
+
+      if (lamp.isExclusive()) {
+        flags |= EXCLUSIVE;
+      }
+      if (lamp.isSingleChoice()) {
+        flags |= SINGLE_CHOICE;
+      }
+
+      data.writeInt(lamp.getId());
+      data.writeDouble(lamp.getXp());
+      data.writeByte(flags);
+      writeOrdinal(lamp.getType(), data);
+      data.writeDouble(lamp.getMultiplier());
+      data.writeShort(lamp.getRequirements().size());
+
+      for (Map.Entry<Set<Skill>, Integer> requirement : lamp.getRequirements().entrySet()) {
+        data.writeByte(requirement.getKey().size());
+
+        for (Skill skill : requirement.getKey()) {
+          writeOrdinal(skill, data);
+        }
+
+        data.writeInt(requirement.getValue());
+      }
+    }
+  }
+
+  private static void writeRequirementFlags(Requirement requirement, DataOutputStream data)
+      throws IOException {
+    int flags = 0;
+
+    if (requirement.isIronman()) {
+      flags |= IRONMAN;
+    }
+    if (requirement.isRecommended()) {
+      flags |= RECOMMENDED;
+    }
+
+    data.writeByte(flags);
+  }
+
+  private static void writeOrdinal(Enum<?> value, DataOutputStream data) throws IOException {
+    data.writeByte(value != null ? value.ordinal() : -1);
+  }
+
+  private static void writeString(String value, DataOutputStream data) throws IOException {
+    if (value == null) {
+      data.writeInt(-1);
+    } else {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+      data.writeInt(bytes.length);
+      data.write(bytes);
+    }
+  }
+
+  private static QuestRecord readQuest(ByteBuffer buffer) {
+    QuestRecord record = new QuestRecord();
+
+    record.id = buffer.getInt();
+    record.title = readString(buffer);
+    record.displayName = readString(buffer);
+    record.access = readOrdinal(ACCESSES, buffer);
+    record.type = readOrdinal(TYPES, buffer);
+
+    int flags = buffer.get();
+
+    if ((flags & HAS_REQUIREMENTS) != 0) {
+      readRequirements(record, buffer);
+    }
+    if ((flags & HAS_REWARDS) != 0) {
+      record.rewards = readRewards(buffer);
+    }
+
+    return record;
+  }
+
+  private static void readRequirements(QuestRecord record, ByteBuffer buffer) {
+    QuestRequirements.Builder requirements = new QuestRequirements.Builder();
+    int flags = buffer.get();
+
+    if ((flags & HAS_COMBAT) != 0) {
+      int level = buffer.getInt();
+      int requirementFlags = buffer.get();
+
+      requirements.withCombat(new CombatRequirement.Builder(level)
+          .withIronman((requirementFlags & IRONMAN) != 0)
+          .withRecommended((requirementFlags & RECOMMENDED) != 0).build());
+    }
+    if ((flags & HAS_QUEST_POINTS) != 0) {
+      int amount = buffer.getInt();
+      int requirementFlags = buffer.get();
+
+      requirements.withQuestPoints(new QuestPointsRequirement.Builder(amount)
+          .withIronman((requirementFlags & IRONMAN) != 0)
+          .withRecommended((requirementFlags & RECOMMENDED) != 0).build());
+    }
+
+    int quests = buffer.getShort();
+
+    record.questRequirementIds = new int[quests];
+    record.questRequirementFlags = new int[quests];
+
+    for (int i = 0; i < quests; i++) {
+      record.questRequirementIds[i] = buffer.getInt();
+      record.questRequirementFlags[i] = buffer.get();
+    }
+
+    int skills = buffer.getShort();
+
+    if (skills > 0) {
+      Set<SkillRequirement> skillRequirements = new LinkedHashSet<>();
+
+      for (int i = 0; i < skills; i++) {
+        Skill skill = readOrdinal(SKILLS, buffer);
+        int level = buffer.getInt();
+        int requirementFlags = buffer.get();
+
+        skillRequirements.add(new SkillRequirement.Builder(skill, level)
+            .withIronman((requirementFlags & IRONMAN) != 0)
+            .withRecommended((requirementFlags & RECOMMENDED) != 0).build());
+      }
+
+      requirements.withSkills(skillRequirements);
+    }
+
+    record.requirements = requirements;
+  }
+
+  private static QuestRewards readRewards(ByteBuffer buffer) {
+    QuestRewards.Builder rewards = new QuestRewards.Builder().withQuestPoints(buffer.getInt());
+    int xps = buffer.getShort();
+
+    if (xps > 0) {
+      Map<Skill, Double> xp = new LinkedHashMap<>();
+
+      for (int i = 0; i < xps; i++) {
+        Skill skill = readOrdinal(SKILLS, buffer);
+
+        xp.put(skill, buffer.getDouble());
+      }
+
+      rewards.withXp(xp);
+    }
+
+    int lamps = buffer.getShort();
+
+    if (lamps > 0) {
+      Set<LampReward> lampRewards = new LinkedHashSet<>();
+
+      for (int i = 0; i < lamps; i++) {
+        lampRewards.add(readLamp(buffer));
+      }
+
+      rewards.withLamps(lampRewards);
+    }
+
+    return rewards.build();
+  }
+
+  private static LampReward readLamp(ByteBuffer buffer) {
+    LampReward.Builder lamp = new LampReward.Builder(buffer.getInt()).withXp(buffer.getDouble());
+    int flags = buffer.get();
+
+    lamp.withExclusive((flags & EXCLUSIVE) != 0).withSingleChoice((flags & SINGLE_CHOICE) != 0)
+        .withType(readOrdinal(LAMP_TYPES, buffer)).withMultiplier(buffer.getDouble());
+
+    int size = buffer.getShort();
+    Map<Set<Skill>, Integer> requirements = new LinkedHashMap<>();
+
+    for (int i = 0; i < size; i++) {
+      int skills = buffer.get();
+      Set<Skill> key = new LinkedHashSet<>();
+
+      for (int j = 0; j < skills; j++) {
+        key.add(readOrdinal(SKILLS, buffer));
+      }
+
+      requirements.put(key, buffer.getInt());
+    }
+
+    return lamp.withRequirements(requirements).build();
+  }
+
+  private static <E extends Enum<E>> E readOrdinal(E[] values, ByteBuffer buffer) {
+    int ordinal = buffer.get();
+
+    return ordinal >= 0 ? values[ordinal] : null;
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+
+    if (length < 0) {
+      return null;
+    }
+
+    byte[] bytes = new byte[length];
+
+    buffer.get(bytes);
+
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * A quest read from the catalogue whose {@link QuestRequirement}s have not yet been resolved.
+   */
+  private static final class QuestRecord {
+
+    private int id;
+    private String title;
+    private String displayName;
+    private QuestAccess access;
+    private QuestType type;
+    private QuestRequirements.Builder requirements;
+    private int[] questRequirementIds;
+    private int[] questRequirementFlags;
+    private QuestRewards rewards = QuestRewards.NONE;
+    private Quest quest;
+    private boolean building;
+
+    /**
+     * Build the {@link Quest} for this record, building the quests it requires first.
+     *
+     * @param records the records by quest id
+     * @return the quest
+     * @throws IllegalArgumentException if a quest requirement is unknown or cyclic
+     */
+    private Quest build(Map<Integer, QuestRecord> records) {
+      if (quest != null) {
+        return quest;
+      } else if (building) {
+        throw new IllegalArgumentException("Cyclic quest requirement for quest: " + id);
+      }
+
+      building = true;
+
+      QuestRequirements questRequirements = QuestRequirements.NONE;
+
+      if (requirements != null) {
+        if (questRequirementIds.length > 0) {
+          Set<QuestRequirement> quests = new LinkedHashSet<>();
+
+          for (int i = 0; i < questRequirementIds.length; i++) {
+            QuestRecord record = records.get(questRequirementIds[i]);
+
+            if (record == null) {
+              throw new IllegalArgumentException(
+                  "Unknown quest requirement " + questRequirementIds[i] + " for quest: " + id);
+            }
+
+            quests.add(new QuestRequirement.Builder(record.build(records))
+                .withIronman((questRequirementFlags[i] & IRONMAN) != 0)
+                .withRecommended((questRequirementFlags[i] & RECOMMENDED) != 0).build());
+          }
+
+          requirements.withQuests(quests);
+        }
+
+        questRequirements = requirements.build();
+      }
+
+      quest = new Quest.Builder(id).withTitle(title).withDisplayName(displayName)
+          .withAccess(access).withType(type).withRequirements(questRequirements)
+          .withRewards(rewards).build();
+
+      return quest;
+    }
+  }
+}
@@ -0,0 +1,479 @@
+package com.darrenswhite.rs.ironquest.quest;
+
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.Requirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.SkillRequirement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * A dependency graph of {@link Quest}s and their {@link QuestRequirement}s.
+ *
+ * Each quest is assigned a dense index in topological order, so that every quest has a higher
+ * index than all of its quest requirements. The recursive quest requirements of every quest are
+ * precomputed as a {@link BitSet} of indexes, so recursive lookups do not walk the requirement
+ * tree. Quests are also indexed by their case folded title and display name.
+ *
+ * The highest level of each {@link Skill} required by each quest is also precomputed, along with
+ * the quests which require each skill ordered by the required level.
+ *
+ * @author Darren S. White
+ */
+public class QuestGraph {
+
+  /**
+   * Number of combinations of ironman and recommended flags.
+   */
+  private static final int VARIANTS = 4;
+  private static final int[] NO_INDEXES = new int[0];
+  private static final Skill[] SKILLS = Skill.values();
+
+  private final List<Quest> quests;
+  private final Map<Integer, Integer> indexes;
+  private final Map<String, int[]> titleIndexes;
+  private final BitSet[] questRequirements;
+  private final BitSet[][] applicableQuestRequirements;
+  private final int[][][] skillRequirementLevels;
+  private final int[][][] recursiveSkillRequirementLevels;
+  private final int[][][] questsBySkillRequirement;
+
+  /**
+   * Create a new {@link QuestGraph} for the specified {@link Quest}s.
+   *
+   * All quests which are required by the specified quests are also included in the graph.
+   *
+   * @param quests the quests
+   * @throws IllegalArgumentException if the quest requirements contain a cycle
+   */
+  public QuestGraph(Collection<Quest> quests) {
+    this.quests = Collections.unmodifiableList(sort(quests));
+    this.indexes = new HashMap<>();
+    this.titleIndexes = new HashMap<>();
+
+    for (int i = 0; i < this.quests.size(); i++) {
+      Quest quest = this.quests.get(i);
+      String title = foldTitle(quest.getTitle());
+      String displayName = foldTitle(quest.getDisplayName());
+
+      indexes.put(quest.getId(), i);
+      addTitleIndex(title, i);
+
+      if (!Objects.equals(title, displayName)) {
+        addTitleIndex(displayName, i);
+      }
+    }
+
+    this.questRequirements = new BitSet[this.quests.size()];
+    this.applicableQuestRequirements = new BitSet[VARIANTS][this.quests.size()];
+
+    for (int i = 0; i < this.quests.size(); i++) {
+      computeQuestRequirements(i);
+    }
+
+    this.skillRequirementLevels = new int[VARIANTS][this.quests.size()][];
+    this.recursiveSkillRequirementLevels = new int[VARIANTS][this.quests.size()][];
+    this.questsBySkillRequirement = new int[VARIANTS][][];
+
+    for (int variant = 0; variant < VARIANTS; variant++) {
+      computeSkillRequirements(variant);
+    }
+  }
+
+  /**
+   * Returns all {@link Quest}s in the graph in topological order.
+   *
+   * @return list of quests
+   */
+  public List<Quest> getQuests() {
+    return quests;
+  }
+
+  /**
+   * Returns the {@link Quest} with the specified index.
+   *
+   * @param index the index of the quest
+   * @return the quest
+   */
+  public Quest getQuest(int index) {
+    return quests.get(index);
+  }
+
+  /**
+   * Returns the index of the specified {@link Quest}.
+   *
+   * @param quest the quest
+   * @return the index of the quest; or -1 if the quest is not in the graph
+   */
+  public int indexOf(Quest quest) {
+    return indexOf(quest.getId());
+  }
+
+  /**
+   * Returns the index of the {@link Quest} with the specified id.
+   *
+   * @param questId the id of the quest
+   * @return the index of the quest; or -1 if the quest is not in the graph
+   */
+  public int indexOf(int questId) {
+    Integer index = indexes.get(questId);
+
+    return index != null ? index : -1;
+  }
+
+  /**
+   * Returns the indexes of the {@link Quest}s with the specified title or display name, ignoring
+   * case.
+   *
+   * @param title the title or display name of the quest
+   * @return the indexes of the matching quests in ascending order; or an empty array if there are
+   * none
+   */
+  public int[] indexesOfTitle(String title) {
+    int[] result = titleIndexes.get(foldTitle(title));
+
+    return result != null ? result.clone() : NO_INDEXES;
+  }
+
+  /**
+   * Returns the indexes of all {@link Quest}s required to complete the specified {@link Quest},
+   * recursively.
+   *
+   * @param quest the quest
+   * @return the indexes of the quest requirements
+   * @see Quest#getQuestRequirements(boolean)
+   */
+  public BitSet getQuestRequirements(Quest quest) {
+    return (BitSet) questRequirements[getIndex(quest)].clone();
+  }
+
+  /**
+   * Returns the indexes of all {@link Quest}s required to complete any of the specified {@link
+   * Quest}s, recursively.
+   *
+   * @param quests the quests
+   * @return the indexes of the quest requirements
+   */
+  public BitSet getQuestRequirements(Collection<Quest> quests) {
+    BitSet requirements = new BitSet(this.quests.size());
+
+    for (Quest quest : quests) {
+      requirements.or(questRequirements[getIndex(quest)]);
+    }
+
+    return requirements;
+  }
+
+  /**
+   * Returns the indexes of all {@link Quest}s required to complete the specified {@link Quest},
+   * recursively, which apply to a player with the given ironman and recommended flags.
+   *
+   * A {@link QuestRequirement} does not apply if it is an ironman requirement and the player is not
+   * an ironman, or it is a recommended requirement and the player does not use recommended
+   * requirements. The requirements of a quest which does not apply are still included.
+   *
+   * @param quest the quest
+   * @param ironman <tt>true</tt> if ironman requirements apply; <tt>false</tt> otherwise
+   * @param recommended <tt>true</tt> if recommended requirements apply; <tt>false</tt> otherwise
+   * @return the indexes of the quest requirements
+   * @see Requirement#test
+   */
+  public BitSet getQuestRequirements(Quest quest, boolean ironman, boolean recommended) {
+    return (BitSet) applicableQuestRequirements[variant(ironman, recommended)][getIndex(quest)]
+        .clone();
+  }
+
+  /**
+   * Returns the highest level of the {@link Skill} required by the {@link Quest} with the
+   * specified index, which applies to a player with the given ironman and recommended flags.
+   *
+   * Only the skill requirements of the quest itself are included, not those of its quest
+   * requirements.
+   *
+   * @param index the index of the quest
+   * @param skill the skill
+   * @param ironman <tt>true</tt> if ironman requirements apply; <tt>false</tt> otherwise
+   * @param recommended <tt>true</tt> if recommended requirements apply; <tt>false</tt> otherwise
+   * @return the required level; or 0 if there is no requirement for the skill
+   */
+  public int getSkillRequirementLevel(int index, Skill skill, boolean ironman,
+      boolean recommended) {
+    return skillRequirementLevels[variant(ironman, recommended)][index][skill.ordinal()];
+  }
+
+  /**
+   * Returns the highest level of each {@link Skill} required by the {@link Quest} with the
+   * specified index, which applies to a player with the given ironman and recommended flags.
+   *
+   * The returned array is indexed by {@link Skill#ordinal()}.
+   *
+   * @param index the index of the quest
+   * @param ironman <tt>true</tt> if ironman requirements apply; <tt>false</tt> otherwise
+   * @param recommended <tt>true</tt> if recommended requirements apply; <tt>false</tt> otherwise
+   * @return the required levels; with 0 for skills which are not required
+   * @see QuestGraph#getSkillRequirementLevel(int, Skill, boolean, boolean)
+   */
+  public int[] getSkillRequirementLevels(int index, boolean ironman, boolean recommended) {
+    return skillRequirementLevels[variant(ironman, recommended)][index].clone();
+  }
+
+  /**
+   * Returns the highest level of each {@link Skill} required by the {@link Quest} with the
+   * specified index, or by any of its quest requirements recursively, which applies to a player
+   * with the given ironman and recommended flags.
+   *
+   * The returned array is indexed by {@link Skill#ordinal()}.
+   *
+   * @param index the index of the quest
+   * @param ironman <tt>true</tt> if ironman requirements apply; <tt>false</tt> otherwise
+   * @param recommended <tt>true</tt> if recommended requirements apply; <tt>false</tt> otherwise
+   * @return the required levels; with 0 for skills which are not required
+   * @see QuestGraph#getSkillRequirementLevels(int, boolean, boolean)
+   * @see QuestGraph#getQuestRequirements(Quest, boolean, boolean)
+   */
+  public int[] getRecursiveSkillRequirementLevels(int index, boolean ironman,
+      boolean recommended) {
+    return recursiveSkillRequirementLevels[variant(ironman, recommended)][index].clone();
+  }
+
+  /**
+   * Returns the indexes of all {@link Quest}s with a requirement for the {@link Skill}, which
+   * applies to a player with the given ironman and recommended flags, ordered by the required
+   * level from highest to lowest.
+   *
+   * @param skill the skill
+   * @param ironman <tt>true</tt> if ironman requirements apply; <tt>false</tt> otherwise
+   * @param recommended <tt>true</tt> if recommended requirements apply; <tt>false</tt> otherwise
+   * @return the indexes of the quests
+   * @see QuestGraph#getSkillRequirementLevel(int, Skill, boolean, boolean)
+   */
+  public int[] getQuestsBySkillRequirement(Skill skill, boolean ironman, boolean recommended) {
+    return questsBySkillRequirement[variant(ironman, recommended)][skill.ordinal()].clone();
+  }
+
+  /**
+   * Returns the {@link Quest}s for the specified indexes.
+   *
+   * @param indexes the indexes of the quests
+   * @return set of quests
+   */
+  public Set<Quest> getQuests(BitSet indexes) {
+    Set<Quest> result = new LinkedHashSet<>();
+
+    for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+      result.add(quests.get(i));
+    }
+
+    return result;
+  }
+
+  /**
+   * Add the specified index for a case folded title.
+   *
+   * @param title the case folded title; can be null
+   * @param index the index of the quest
+   */
+  private void addTitleIndex(String title, int index) {
+    if (title != null) {
+      titleIndexes.merge(title, new int[]{index}, (existing, added) -> {
+        int[] merged = Arrays.copyOf(existing, existing.length + 1);
+        merged[existing.length] = index;
+        return merged;
+      });
+    }
+  }
+
+  /**
+   * Returns the case folded form of the specified title.
+   *
+   * @param title the title
+   * @return the case folded title; or null if the title is null
+   */
+  private static String foldTitle(String title) {
+    return title != null ? title.toLowerCase(Locale.ROOT) : null;
+  }
+
+  /**
+   * Returns the index of the specified {@link Quest}.
+   *
+   * @param quest the quest
+   * @return the index of the quest
+   * @throws IllegalArgumentException if the quest is not in the graph
+   */
+  private int getIndex(Quest quest) {
+    int index = indexOf(quest);
+
+    if (index < 0) {
+      throw new IllegalArgumentException("Unknown quest: " + quest);
+    }
+
+    return index;
+  }
+
+  /**
+   * Compute the recursive quest requirements for the quest with the specified index.
+   *
+   * All quest requirements have a lower index, so they are always computed first.
+   *
+   * @param index the index of the quest
+   */
+  private void computeQuestRequirements(int index) {
+    BitSet requirements = new BitSet(quests.size());
+    BitSet[] applicable = new BitSet[VARIANTS];
+
+    for (int variant = 0; variant < VARIANTS; variant++) {
+      applicable[variant] = new BitSet(quests.size());
+    }
+
+    for (QuestRequirement questRequirement : quests.get(index).getRequirements().getQuests()) {
+      int requirementIndex = getIndex(questRequirement.getQuest());
+
+      requirements.set(requirementIndex);
+      requirements.or(questRequirements[requirementIndex]);
+
+      for (int variant = 0; variant < VARIANTS; variant++) {
+        if (applies(questRequirement, variant)) {
+          applicable[variant].set(requirementIndex);
+        }
+
+        applicable[variant].or(applicableQuestRequirements[variant][requirementIndex]);
+      }
+    }
+
+    questRequirements[index] = requirements;
+
+    for (int variant = 0; variant < VARIANTS; variant++) {
+      applicableQuestRequirements[variant][index] = applicable[variant];
+    }
+  }
+
+  /**
+   * Compute the highest required level of each {@link Skill} for every quest, both for the quest
+   * itself and including its quest requirements recursively, and the quests ordered by the
+   * required level of each skill, for the specified variant.
+   *
+   * @param variant the variant index
+   */
+  private void computeSkillRequirements(int variant) {
+    int[][] levels = skillRequirementLevels[variant];
+    int[][] questsBySkill = new int[SKILLS.length][];
+
+    for (int i = 0; i < quests.size(); i++) {
+      levels[i] = new int[SKILLS.length];
+
+      for (SkillRequirement skillRequirement : quests.get(i).getRequirements().getSkills()) {
+        int skill = skillRequirement.getSkill().ordinal();
+
+        if (applies(skillRequirement, variant)) {
+          levels[i][skill] = Math.max(levels[i][skill], skillRequirement.getLevel());
+        }
+      }
+    }
+
+    for (int i = 0; i < quests.size(); i++) {
+      int[] recursiveLevels = levels[i].clone();
+      BitSet requirements = applicableQuestRequirements[variant][i];
+
+      for (int r = requirements.nextSetBit(0); r >= 0; r = requirements.nextSetBit(r + 1)) {
+        SkillRequirement.merge(recursiveLevels, levels[r]);
+      }
+
+      recursiveSkillRequirementLevels[variant][i] = recursiveLevels;
+    }
+
+    for (Skill skill : SKILLS) {
+      int s = skill.ordinal();
+
+      questsBySkill[s] = IntStream.range(0, quests.size()).filter(i -> levels[i][s] > 0).boxed()
+          .sorted(Comparator.comparingInt(i -> -levels[i][s])).mapToInt(Integer::intValue)
+          .toArray();
+    }
+
+    questsBySkillRequirement[variant] = questsBySkill;
+  }
+
+  /**
+   * Returns the variant index for the given ironman and recommended flags.
+   *
+   * @param ironman <tt>true</tt> if ironman requirements apply; <tt>false</tt> otherwise
+   * @param recommended <tt>true</tt> if recommended requirements apply; <tt>false</tt> otherwise
+   * @return the variant index
+   */
+  private static int variant(boolean ironman, boolean recommended) {
+    return (ironman ? 1 : 0) | (recommended ? 2 : 0);
+  }
+
+  /**
+   * Test if the {@link Requirement} applies to the given variant.
+   *
+   * @param requirement the requirement
+   * @param variant the variant index
+   * @return <tt>true</tt> if the requirement applies; <tt>false</tt> otherwise
+   */
+  private static boolean applies(Requirement requirement, int variant) {
+    boolean ironman = (variant & 1) != 0;
+    boolean recommended = (variant & 2) != 0;
+
+    return !(requirement.isIronman() && !ironman) && !(requirement.isRecommended()
+        && !recommended);
+  }
+
+  /**
+   * Sort the specified {@link Quest}s, and all of their quest requirements, in topological order.
+   *
+   * @param quests the quests to sort
+   * @return list of quests in topological order
+   * @throws IllegalArgumentException if the quest requirements contain a cycle
+   */
+  private static List<Quest> sort(Collection<Quest> quests) {
+    List<Quest> sorted = new ArrayList<>();
+    Set<Quest> visited = new HashSet<>();
+    Set<Quest> visiting = new HashSet<>();
+
+    for (Quest quest : quests) {
+      visit(quest, sorted, visited, visiting);
+    }
+
+    return sorted;
+  }
+
+  /**
+   * Visit the {@link Quest} and its quest requirements in depth-first order.
+   *
+   * @param quest the quest to visit
+   * @param sorted the sorted quests
+   * @param visited the quests which have been sorted
+   * @param visiting the quests which are currently being visited
+   * @throws IllegalArgumentException if the quest requirements contain a cycle
+   */
+  private static void visit(Quest quest, List<Quest> sorted, Set<Quest> visited,
+      Set<Quest> visiting) {
+    if (visited.contains(quest)) {
+      return;
+    }
+    if (!visiting.add(quest)) {
+      throw new IllegalArgumentException("Cyclic quest requirements for quest: " + quest);
+    }
+
+    for (QuestRequirement questRequirement : quest.getRequirements().getQuests()) {
+      visit(questRequirement.getQuest(), sorted, visited, visiting);
+    }
+
+    visiting.remove(quest);
+    visited.add(quest);
+    sorted.add(quest);
+  }
+}
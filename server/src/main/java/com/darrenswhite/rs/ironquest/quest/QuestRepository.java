@@ -4,18 +4,31 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Repository;
 
 /**
  * {@link Repository} for retrieving {@link Quest}s from a {@link Resource}.
  *
+ * The resource is either JSON quest data, or a {@link QuestCatalogue} generated from it.
+ *
+ * The quests are held in an immutable {@link Snapshot}. A file resource is polled for
+ * modifications, and a modified resource is loaded and validated in the background before the
+ * snapshot is swapped atomically. Readers holding the previous snapshot continue to use it
+ * consistently. A {@link QuestsReloadedEvent} is published when the snapshot is swapped. A
+ * modification which fails to load is not polled again until the resource is modified again.
+ *
  * @author Darren S. White
  */
 @Repository
@@ -23,21 +36,236 @@ public class QuestRepository {
 
   private static final Logger LOG = LogManager.getLogger(QuestRepository.class);
 
-  private final Set<Quest> quests;
+  private final Resource questsResource;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private volatile Snapshot snapshot;
+  private volatile long failedLastModified;
+
+  /**
+   * Create a new {@link QuestRepository} which does not publish reload events.
+   *
+   * @param questsResource the resource to retrieve quest data from
+   * @param objectMapper an {@link ObjectMapper}
+   * @throws IOException if the quest data could not be loaded
+   */
+  public QuestRepository(Resource questsResource, ObjectMapper objectMapper) throws IOException {
+    this(questsResource, objectMapper, event -> {
+    });
+  }
 
   /**
    * Create a new {@link QuestRepository}.
    *
    * @param questsResource the resource to retrieve quest data from
    * @param objectMapper an {@link ObjectMapper}
+   * @param eventPublisher the publisher used to publish {@link QuestsReloadedEvent}s
+   * @throws IOException if the quest data could not be loaded
    */
+  @Autowired
   public QuestRepository(@Value("${quests.resource}") Resource questsResource,
-      ObjectMapper objectMapper) throws IOException {
-    this.quests = Collections.unmodifiableSet(load(questsResource, objectMapper));
+      ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) throws IOException {
+    this.questsResource = questsResource;
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+    this.snapshot = load(1);
   }
 
   public Set<Quest> getQuests() {
-    return quests;
+    return snapshot.getQuests();
+  }
+
+  public QuestGraph getQuestGraph() {
+    return snapshot.getQuestGraph();
+  }
+
+  /**
+   * Returns the current {@link Snapshot} of quests.
+   *
+   * Callers which read more than one property of the repository should use a single snapshot, so
+   * that all properties belong to the same version of the quest data.
+   *
+   * @return the current snapshot
+   */
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Tests if the quest data can be reloaded when it is modified. Only a resource which is a file,
+   * e.g. a <tt>file:</tt> URL, is modified while the application is running, so any other resource
+   * is not polled for modifications.
+   *
+   * @return <tt>true</tt> if the resource is a file; <tt>false</tt> otherwise
+   */
+  public boolean isReloadable() {
+    return questsResource.isFile();
+  }
+
+  /**
+   * Reload the quest data if the resource has been modified since it was last loaded, and the
+   * modification has not already failed to load.
+   *
+   * @return <tt>true</tt> if the quest data was reloaded; <tt>false</tt> otherwise
+   * @see QuestRepository#reload()
+   */
+  public boolean reloadIfModified() {
+    long lastModified = getLastModified();
+
+    return lastModified > snapshot.lastModified && lastModified != failedLastModified
+        && reload();
+  }
+
+  /**
+   * Reload the quest data from the resource.
+   *
+   * The new quest data is validated and indexed before it replaces the current snapshot. If the
+   * new quest data is invalid, the current snapshot is kept.
+   *
+   * @return <tt>true</tt> if the quest data was reloaded; <tt>false</tt> otherwise
+   */
+  public synchronized boolean reload() {
+    long lastModified = getLastModified();
+    Snapshot reloaded;
+
+    try {
+      reloaded = load(snapshot.version + 1);
+    } catch (IOException | RuntimeException e) {
+      failedLastModified = lastModified;
+      LOG.error("Failed to reload quests from resource: {}", questsResource, e);
+      return false;
+    }
+
+    snapshot = reloaded;
+
+    LOG.info("Reloaded {} quests from resource: {}", reloaded.quests.size(), questsResource);
+
+    eventPublisher.publishEvent(new QuestsReloadedEvent(this, reloaded));
+
+    return true;
+  }
+
+  /**
+   * Load and validate a new {@link Snapshot} from the resource.
+   *
+   * @param version the version of the snapshot
+   * @return the loaded snapshot
+   * @throws IOException if the quest data could not be read
+   * @throws IllegalArgumentException if the quest data is invalid
+   */
+  private Snapshot load(long version) throws IOException {
+    long lastModified = getLastModified();
+    Set<Quest> quests = Collections.unmodifiableSet(load(questsResource, objectMapper));
+
+    if (quests.isEmpty()) {
+      throw new IllegalArgumentException("No quests in resource: " + questsResource);
+    }
+
+    QuestGraph questGraph = new QuestGraph(quests);
+
+    return new Snapshot(quests, questGraph, filterQuests(quests, questGraph), version,
+        lastModified);
+  }
+
+  /**
+   * Filter the {@link Quest}s for every combination of {@link QuestAccessFilter} and {@link
+   * QuestTypeFilter}.
+   *
+   * Each filtered set contains the quests which match both filters, and all of their quest
+   * requirements recursively.
+   *
+   * @param quests the quests to filter
+   * @param questGraph the quest graph of the quests
+   * @return unmodifiable sets of filtered quests indexed by access filter and type filter ordinal
+   * @throws IllegalArgumentException for invalid quest access or types
+   */
+  private static List<List<Set<Quest>>> filterQuests(Set<Quest> quests, QuestGraph questGraph) {
+    List<List<Set<Quest>>> filteredQuests = new ArrayList<>();
+
+    for (QuestAccessFilter accessFilter : QuestAccessFilter.values()) {
+      List<Set<Quest>> accessFilteredQuests = new ArrayList<>();
+
+      for (QuestTypeFilter typeFilter : QuestTypeFilter.values()) {
+        List<Quest> matching = new ArrayList<>();
+
+        for (Quest quest : quests) {
+          if (matchesAccessFilter(quest, accessFilter) && matchesTypeFilter(quest, typeFilter)) {
+            matching.add(quest);
+          }
+        }
+
+        BitSet questRequirements = questGraph.getQuestRequirements(matching);
+        Set<Quest> filtered = new LinkedHashSet<>(matching);
+
+        filtered.addAll(questGraph.getQuests(questRequirements));
+        accessFilteredQuests.add(Collections.unmodifiableSet(filtered));
+      }
+
+      filteredQuests.add(Collections.unmodifiableList(accessFilteredQuests));
+    }
+
+    return Collections.unmodifiableList(filteredQuests);
+  }
+
+  /**
+   * Returns whether the {@link Quest} matches the specified {@link QuestAccessFilter}.
+   *
+   * @param quest the quest
+   * @param accessFilter the access filter
+   * @return <tt>true</tt> if the quest matches the access filter; <tt>false</tt> otherwise
+   * @throws IllegalArgumentException for invalid quest access
+   */
+  private static boolean matchesAccessFilter(Quest quest, QuestAccessFilter accessFilter) {
+    if (quest.getAccess() == null) {
+      throw new IllegalArgumentException("Unknown quest access: " + quest.getAccess());
+    }
+
+    switch (quest.getAccess()) {
+      case FREE:
+        return accessFilter.isFree();
+      case MEMBERS:
+        return accessFilter.isMembers();
+      default:
+        throw new IllegalArgumentException("Unknown quest access: " + quest.getAccess());
+    }
+  }
+
+  /**
+   * Returns whether the {@link Quest} matches the specified {@link QuestTypeFilter}.
+   *
+   * @param quest the quest
+   * @param typeFilter the type filter
+   * @return <tt>true</tt> if the quest matches the type filter; <tt>false</tt> otherwise
+   * @throws IllegalArgumentException for invalid quest types
+   */
+  private static boolean matchesTypeFilter(Quest quest, QuestTypeFilter typeFilter) {
+    if (quest.getType() == null) {
+      throw new IllegalArgumentException("Unknown quest type: " + quest.getType());
+    }
+
+    switch (quest.getType()) {
+      case QUEST:
+        return typeFilter.isQuests();
+      case MINIQUEST:
+        return typeFilter.isMiniquests();
+      case SAGA:
+        return typeFilter.isSagas();
+      default:
+        throw new IllegalArgumentException("Unknown quest type: " + quest.getType());
+    }
+  }
+
+  /**
+   * Returns the time the resource was last modified.
+   *
+   * @return the time the resource was last modified; or 0 if it is unknown
+   */
+  private long getLastModified() {
+    try {
+      return questsResource.lastModified();
+    } catch (IOException e) {
+      return 0;
+    }
   }
 
   /**
@@ -45,14 +273,66 @@ public class QuestRepository {
    *
    * @param questsResource the resource to retrieve quest data from
    * @return the loaded quests
+   * @see QuestCatalogue#isCatalogue(Resource)
    */
-  private LinkedHashSet<Quest> load(Resource questsResource, ObjectMapper objectMapper)
+  private Set<Quest> load(Resource questsResource, ObjectMapper objectMapper)
       throws IOException {
     LOG.debug("Trying to retrieve quests from resource: {}", questsResource);
 
+    if (QuestCatalogue.isCatalogue(questsResource)) {
+      return QuestCatalogue.load(questsResource);
+    }
+
     try (InputStream in = questsResource.getInputStream()) {
-      return objectMapper.readValue(in, new TypeReference<>() {
+      return objectMapper.readValue(in, new TypeReference<LinkedHashSet<Quest>>() {
       });
     }
   }
+
+  /**
+   * An immutable version of the quest data and its precomputed indexes.
+   */
+  public static final class Snapshot {
+
+    private final Set<Quest> quests;
+    private final QuestGraph questGraph;
+    private final List<List<Set<Quest>>> filteredQuests;
+    private final long version;
+    private final long lastModified;
+
+    Snapshot(Set<Quest> quests, QuestGraph questGraph, List<List<Set<Quest>>> filteredQuests,
+        long version, long lastModified) {
+      this.quests = quests;
+      this.questGraph = questGraph;
+      this.filteredQuests = filteredQuests;
+      this.version = version;
+      this.lastModified = lastModified;
+    }
+
+    public Set<Quest> getQuests() {
+      return quests;
+    }
+
+    /**
+     * Returns the {@link Quest}s which match the specified filters, and all of their quest
+     * requirements recursively.
+     *
+     * The returned set is precomputed, unmodifiable and shared.
+     *
+     * @param accessFilter filter quests by access
+     * @param typeFilter filter quests by type
+     * @return set of filtered quests
+     */
+    public Set<Quest> getQuests(QuestAccessFilter accessFilter, QuestTypeFilter typeFilter) {
+      return filteredQuests.get(accessFilter.ordinal()).get(typeFilter.ordinal());
+    }
+
+    public QuestGraph getQuestGraph() {
+      return questGraph;
+    }
+
+    public long getVersion() {
+      return version;
+    }
+  }
 }
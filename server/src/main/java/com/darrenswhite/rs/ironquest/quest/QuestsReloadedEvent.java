@@ -0,0 +1,25 @@
+package com.darrenswhite.rs.ironquest.quest;
+
+import com.darrenswhite.rs.ironquest.quest.QuestRepository.Snapshot;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when the {@link QuestRepository} swaps to a new {@link Snapshot} of quests.
+ *
+ * @author Darren S. White
+ */
+public class QuestsReloadedEvent extends ApplicationEvent {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient Snapshot snapshot;
+
+  public QuestsReloadedEvent(QuestRepository source, Snapshot snapshot) {
+    super(source);
+    this.snapshot = snapshot;
+  }
+
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+}
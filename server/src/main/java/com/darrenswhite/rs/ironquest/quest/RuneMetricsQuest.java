@@ -1,5 +1,6 @@
 package com.darrenswhite.rs.ironquest.quest;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.util.Objects;
 
@@ -82,6 +83,7 @@ public class RuneMetricsQuest {
     STARTED
   }
 
+  @JsonIgnoreProperties(ignoreUnknown = true)
   public static class Builder {
 
     private String title;
@@ -4,7 +4,6 @@ import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.Skill;
 import com.darrenswhite.rs.ironquest.quest.Quest;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -17,6 +16,8 @@ import java.util.Set;
 @JsonDeserialize(builder = SkillRequirement.Builder.class)
 public class SkillRequirement extends Requirement {
 
+  private static final Skill[] SKILLS = Skill.values();
+
   private final Skill skill;
   private final int level;
 
@@ -27,31 +28,42 @@ public class SkillRequirement extends Requirement {
   }
 
   /**
-   * Merge both {@link SkillRequirement}s together.
+   * Merge the required levels of each {@link Skill} into <tt>levels</tt>, keeping the highest
+   * level for each skill.
+   *
+   * Both arrays are indexed by {@link Skill#ordinal()}.
+   *
+   * @param levels the levels to merge into
+   * @param merge the levels to merge
+   * @return <tt>levels</tt>
+   */
+  public static int[] merge(int[] levels, int[] merge) {
+    for (int i = 0; i < levels.length; i++) {
+      levels[i] = Math.max(levels[i], merge[i]);
+    }
+
+    return levels;
+  }
+
+  /**
+   * Create a {@link SkillRequirement} for each {@link Skill} with a required level.
    *
-   * @param requirements the first collection
-   * @param merge the second collection
-   * @return {@link LinkedHashSet} of merged {@link SkillRequirement}.
+   * @param levels the required levels indexed by {@link Skill#ordinal()}; with 0 for skills which
+   * are not required
+   * @return {@link LinkedHashSet} of skill requirements in {@link Skill} order
    */
-  public static Set<SkillRequirement> merge(Collection<SkillRequirement> requirements,
-      Collection<SkillRequirement> merge) {
-    Set<SkillRequirement> merged = new LinkedHashSet<>(requirements);
-
-    merge.forEach(mergeRequirement -> {
-      SkillRequirement skillRequirement = requirements.stream()
-          .filter(sr -> sr.skill == mergeRequirement.skill).findFirst().orElse(null);
-
-      if (skillRequirement != null) {
-        if (mergeRequirement.level > skillRequirement.level) {
-          merged.remove(skillRequirement);
-          merged.add(mergeRequirement);
-        }
-      } else {
-        merged.add(mergeRequirement);
+  public static Set<SkillRequirement> fromLevels(int[] levels) {
+    Set<SkillRequirement> requirements = new LinkedHashSet<>();
+
+    for (Skill skill : SKILLS) {
+      int level = levels[skill.ordinal()];
+
+      if (level > 0) {
+        requirements.add(new Builder(skill, level).build());
       }
-    });
+    }
 
-    return merged;
+    return requirements;
   }
 
   public int getLevel() {
@@ -2,6 +2,7 @@ package com.darrenswhite.rs.ironquest.quest.reward;
 
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.player.SkillMask;
 import com.darrenswhite.rs.ironquest.quest.Quest;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -15,7 +16,6 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -90,17 +90,30 @@ public class LampReward {
    */
   private static final String ALL_SKILLS = "&";
 
+  /**
+   * The {@link Skill}s which are required to use Invention.
+   */
+  public static final List<Skill> INVENTION_SKILLS =
+      List.of(Skill.CRAFTING, Skill.DIVINATION, Skill.SMITHING);
+
+  /**
+   * The level required in each of {@link LampReward#INVENTION_SKILLS} to use Invention.
+   */
+  public static final int INVENTION_SKILLS_LEVEL = 80;
+
+  private static final Skill[] SKILLS = Skill.values();
+
   /**
    * Default {@link Skill} requirements if none are present.
    *
-   * Default is any {@link Skill} at level 1.
+   * Default is any {@link Skill} at level 1, in {@link Skill} order.
    */
   private static final Map<Set<Skill>, Integer> DEFAULT_REQUIREMENTS;
 
   static {
-    Map<Set<Skill>, Integer> defaultRequirements = new HashMap<>();
+    Map<Set<Skill>, Integer> defaultRequirements = new LinkedHashMap<>();
 
-    for (Skill skill : Skill.values()) {
+    for (Skill skill : SKILLS) {
       defaultRequirements.put(Collections.singleton(skill), 1);
     }
 
@@ -115,6 +128,8 @@ public class LampReward {
   private final LampType type;
   private final boolean singleChoice;
   private final double multiplier;
+  private final int[] choiceMasks;
+  private final int[] choiceLevels;
 
   LampReward(Builder builder) {
     this.id = builder.id;
@@ -124,6 +139,21 @@ public class LampReward {
     this.type = builder.type;
     this.singleChoice = builder.singleChoice;
     this.multiplier = builder.multiplier;
+
+    Map<Integer, Integer> choices = new LinkedHashMap<>();
+
+    for (Entry<Set<Skill>, Integer> entry : requirements.entrySet()) {
+      if (singleChoice) {
+        for (Skill skill : entry.getKey()) {
+          choices.put(SkillMask.of(skill), entry.getValue());
+        }
+      } else {
+        choices.put(SkillMask.of(entry.getKey()), entry.getValue());
+      }
+    }
+
+    this.choiceMasks = choices.keySet().stream().mapToInt(Integer::intValue).toArray();
+    this.choiceLevels = choices.values().stream().mapToInt(Integer::intValue).toArray();
   }
 
   public int getId() {
@@ -192,24 +222,35 @@ public class LampReward {
    * @return set of skill choices available to be used
    */
   public Set<Set<Skill>> getChoices(Player player, Set<Set<Skill>> previousChoices) {
-    Map<Set<Skill>, Integer> choices;
+    int[] previousMasks = previousChoices.stream().mapToInt(SkillMask::of).toArray();
 
-    if (singleChoice) {
-      choices = new HashMap<>();
+    return Arrays.stream(getChoiceMasks(player, previousMasks)).mapToObj(SkillMask::toSet)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
 
-      for (Entry<Set<Skill>, Integer> entry : requirements.entrySet()) {
-        for (Skill skill : entry.getKey()) {
-          choices.put(Collections.singleton(skill), entry.getValue());
-        }
+  /**
+   * Get the available skill selections for the specified player as {@link SkillMask}s, in the
+   * order of the requirements.
+   *
+   * @param player the player
+   * @param previousChoices the masks of the previous choices for exclusive lamps
+   * @return the masks of the skill choices available to be used
+   * @see LampReward#getChoices(Player, Set)
+   */
+  public int[] getChoiceMasks(Player player, int[] previousChoices) {
+    int[] choices = new int[choiceMasks.length];
+    int count = 0;
+
+    for (int i = 0; i < choiceMasks.length; i++) {
+      int mask = choiceMasks[i];
+
+      if (meetsLevel(player, mask, choiceLevels[i]) && (!exclusive || !SkillMask
+          .contains(previousChoices, mask))) {
+        choices[count++] = mask;
       }
-    } else {
-      choices = new HashMap<>(requirements);
     }
 
-    return choices.entrySet().stream().filter(
-        e -> e.getKey().stream().noneMatch(s -> player.getLevel(s) < e.getValue()) && (!exclusive
-            || !previousChoices.contains(e.getKey()))).map(Map.Entry::getKey)
-        .collect(Collectors.toSet());
+    return Arrays.copyOf(choices, count);
   }
 
   /**
@@ -263,15 +304,47 @@ public class LampReward {
     if (requirements.isEmpty()) {
       return true;
     } else {
-      return requirements.entrySet().stream().anyMatch(e -> e.getKey().stream().allMatch(s -> {
-        if (s == Skill.INVENTION && (player.getLevel(Skill.CRAFTING) < 80
-            || player.getLevel(Skill.DIVINATION) < 80 || player.getLevel(Skill.SMITHING) < 80)) {
-          return false;
-        } else {
-          return player.getLevel(s) >= e.getValue();
+      return requirements.entrySet().stream()
+          .anyMatch(e -> meetsRequirement(player, e.getKey(), e.getValue()));
+    }
+  }
+
+  /**
+   * Tests if the specified {@link Player} has the level for every {@link Skill} in a set of
+   * requirement skills.
+   *
+   * Invention also requires each of {@link LampReward#INVENTION_SKILLS} to be level {@link
+   * LampReward#INVENTION_SKILLS_LEVEL}.
+   */
+  private static boolean meetsRequirement(Player player, Set<Skill> skills, int level) {
+    for (Skill skill : skills) {
+      if (skill == Skill.INVENTION) {
+        for (Skill inventionSkill : INVENTION_SKILLS) {
+          if (player.getLevel(inventionSkill) < INVENTION_SKILLS_LEVEL) {
+            return false;
+          }
         }
-      }));
+      }
+
+      if (player.getLevel(skill) < level) {
+        return false;
+      }
     }
+
+    return true;
+  }
+
+  /**
+   * Tests if the specified {@link Player} has the level for every {@link Skill} in the mask.
+   */
+  private static boolean meetsLevel(Player player, int mask, int level) {
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      if (player.getLevel(SKILLS[Integer.numberOfTrailingZeros(bits)]) < level) {
+        return false;
+      }
+    }
+
+    return true;
   }
 
   public static class Builder {
@@ -1,12 +1,20 @@
 package com.darrenswhite.rs.ironquest;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.darrenswhite.rs.ironquest.quest.QuestRepository;
+import java.time.Duration;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 
@@ -26,4 +34,36 @@ class ApplicationTest {
       verify(registry).addMapping("/**");
     }
   }
+
+  @Nested
+  class QuestsReloadConfigurer {
+
+    @Test
+    void shouldPollReloadableQuests() {
+      QuestRepository questRepository = mock(QuestRepository.class);
+      ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+      when(questRepository.isReloadable()).thenReturn(true);
+
+      new Application().questsReloadConfigurer(questRepository, Duration.ofSeconds(30))
+          .configureTasks(registrar);
+
+      assertThat(registrar.getFixedDelayTaskList(), hasSize(1));
+      assertThat(registrar.getFixedDelayTaskList().get(0).getIntervalDuration(),
+          is(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void shouldNotPollQuestsWhichAreNotReloadable() {
+      QuestRepository questRepository = mock(QuestRepository.class);
+      ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+      when(questRepository.isReloadable()).thenReturn(false);
+
+      new Application().questsReloadConfigurer(questRepository, Duration.ofSeconds(30))
+          .configureTasks(registrar);
+
+      assertThat(registrar.getFixedDelayTaskList(), is(empty()));
+    }
+  }
 }
@@ -7,17 +7,26 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.darrenswhite.rs.ironquest.action.QuestAction;
 import com.darrenswhite.rs.ironquest.dto.PathDTO;
 import com.darrenswhite.rs.ironquest.dto.PathFinderParametersDTO;
 import com.darrenswhite.rs.ironquest.path.Path;
+import com.darrenswhite.rs.ironquest.path.PathCache;
 import com.darrenswhite.rs.ironquest.path.PathFinderService;
+import com.darrenswhite.rs.ironquest.path.PathListener;
+import com.darrenswhite.rs.ironquest.path.PathStats;
 import com.darrenswhite.rs.ironquest.path.QuestNotFoundException;
 import com.darrenswhite.rs.ironquest.path.algorithm.AlgorithmId;
 import com.darrenswhite.rs.ironquest.player.Player;
@@ -27,35 +36,44 @@ import com.darrenswhite.rs.ironquest.player.Skill;
 import com.darrenswhite.rs.ironquest.quest.Quest;
 import com.darrenswhite.rs.ironquest.quest.QuestAccessFilter;
 import com.darrenswhite.rs.ironquest.quest.QuestTypeFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.assertj.core.util.Sets;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 class QuestControllerTest {
 
+  static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   static PlayerService playerService;
   static PathFinderService pathFinderService;
+  static PathCache pathCache;
   static QuestController controller;
 
   @BeforeAll
   static void beforeAll() {
     playerService = mock(PlayerService.class);
     pathFinderService = mock(PathFinderService.class);
-    controller = new QuestController(playerService, pathFinderService);
+    pathCache = mock(PathCache.class);
+    controller = new QuestController(playerService, pathFinderService, pathCache, OBJECT_MAPPER);
   }
 
   @AfterEach
   void tearDown() {
     reset(playerService);
     reset(pathFinderService);
+    reset(pathCache);
   }
 
   @Nested
@@ -114,17 +132,58 @@ class QuestControllerTest {
           .createPlayer(name, accessFilter, typeFilter, true, true, lampSkills, questPriorities))
           .thenReturn(player);
       when(pathFinderService.find(player, algorithm)).thenReturn(path);
-      when(path.createDTO()).thenReturn(pathDTO);
+      when(path.createDTO(false)).thenReturn(pathDTO);
 
       PathDTO result = controller.getPath(parameters);
 
       verify(playerService)
           .createPlayer(name, accessFilter, typeFilter, true, true, lampSkills, questPriorities);
       verify(pathFinderService).find(player, algorithm);
-      verify(path).createDTO();
+      verify(path).createDTO(false);
+      verify(pathCache).put(null, path);
       assertThat(result, is(pathDTO));
     }
 
+    @Test
+    void shouldReturnCachedPath() throws QuestNotFoundException {
+      Player player = mock(Player.class);
+      Path path = mock(Path.class);
+      PathDTO pathDTO = mock(PathDTO.class);
+      PathCache.Key key = mock(PathCache.Key.class);
+      PathFinderParametersDTO parameters = new PathFinderParametersDTO();
+
+      when(playerService.createPlayer(any(), any(QuestAccessFilter.class),
+          any(QuestTypeFilter.class), anyBoolean(), anyBoolean(), anySet(), anyMap()))
+          .thenReturn(player);
+      when(pathCache.createKey(parameters, player)).thenReturn(key);
+      when(pathCache.get(key)).thenReturn(Optional.of(path));
+      when(path.createDTO(false)).thenReturn(pathDTO);
+
+      PathDTO result = controller.getPath(parameters);
+
+      verify(pathFinderService, never()).find(any(), any());
+      assertThat(result, is(pathDTO));
+    }
+
+    @Test
+    void shouldCreateCompactDTOWhenRequested() throws Exception {
+      Player player = mock(Player.class);
+      Path path = mock(Path.class);
+
+      when(playerService.createPlayer(anyString(), any(QuestAccessFilter.class),
+          any(QuestTypeFilter.class), anyBoolean(), anyBoolean(), anySet(), anyMap()))
+          .thenReturn(player);
+      when(pathFinderService.find(player, AlgorithmId.DEFAULT)).thenReturn(path);
+      when(path.createDTO(true)).thenReturn(new PathDTO.Builder().build());
+
+      MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+      mockMvc.perform(get("/quests/path").param("name", "username").param("compact", "true"))
+          .andExpect(status().isOk());
+
+      verify(path).createDTO(true);
+    }
+
     @Test
     void shouldReturnNotFoundWhenQuestNotFound() throws Exception {
       String name = "username";
@@ -142,4 +201,96 @@ class QuestControllerTest {
           .andExpect(status().isNotFound());
     }
   }
+
+  @Nested
+  class StreamPath {
+
+    @Test
+    void shouldStreamActionsAndCachePath() throws Exception {
+      Player player = mock(Player.class);
+      Player actionPlayer = new Player.Builder().build();
+      QuestAction first = new QuestAction(actionPlayer, new Quest.Builder(1).build());
+      QuestAction second = new QuestAction(actionPlayer, new Quest.Builder(2).build());
+      Path path = new Path(List.of(second), new PathStats(0));
+
+      when(playerService.createPlayer(anyString(), any(QuestAccessFilter.class),
+          any(QuestTypeFilter.class), anyBoolean(), anyBoolean(), anySet(), anyMap()))
+          .thenReturn(player);
+      when(pathCache.get(any())).thenReturn(Optional.empty());
+      when(pathFinderService.find(eq(player), eq(AlgorithmId.DEFAULT), any()))
+          .thenAnswer(invocation -> {
+            PathListener listener = invocation.getArgument(2);
+
+            listener.onAction(0, first);
+            listener.onResolved(0);
+            listener.onAction(1, second);
+
+            return path;
+          });
+
+      MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+      MvcResult result = mockMvc.perform(get("/quests/path/stream").param("name", "username"))
+          .andExpect(request().asyncStarted()).andReturn();
+
+      mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+          .andExpect(content().string(
+              OBJECT_MAPPER.writeValueAsString(first.createDTO()) + "\n{\"resolved\":0}\n"
+                  + OBJECT_MAPPER.writeValueAsString(second.createDTO()) + "\n"));
+
+      verify(pathCache).put(null, path);
+    }
+
+    @Test
+    void shouldStreamCachedPath() throws Exception {
+      Player player = mock(Player.class);
+      QuestAction action = new QuestAction(new Player.Builder().build(),
+          new Quest.Builder(1).build());
+      Path path = new Path(List.of(action), new PathStats(0));
+
+      when(playerService.createPlayer(anyString(), any(QuestAccessFilter.class),
+          any(QuestTypeFilter.class), anyBoolean(), anyBoolean(), anySet(), anyMap()))
+          .thenReturn(player);
+      when(pathCache.get(any())).thenReturn(Optional.of(path));
+
+      MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+      MvcResult result = mockMvc.perform(get("/quests/path/stream").param("name", "username"))
+          .andExpect(request().asyncStarted()).andReturn();
+
+      mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+          .andExpect(content().string(OBJECT_MAPPER.writeValueAsString(action.createDTO()) + "\n"));
+
+      verify(pathFinderService, never()).find(any(), any(), any());
+    }
+
+    @Test
+    void shouldEndStreamWithErrorWhenQuestNotFound() throws Exception {
+      Player player = mock(Player.class);
+      QuestAction action = new QuestAction(new Player.Builder().build(),
+          new Quest.Builder(1).build());
+
+      when(playerService.createPlayer(anyString(), any(QuestAccessFilter.class),
+          any(QuestTypeFilter.class), anyBoolean(), anyBoolean(), anySet(), anyMap()))
+          .thenReturn(player);
+      when(pathCache.get(any())).thenReturn(Optional.empty());
+      when(pathFinderService.find(eq(player), eq(AlgorithmId.DEFAULT), any()))
+          .thenAnswer(invocation -> {
+            PathListener listener = invocation.getArgument(2);
+
+            listener.onAction(0, action);
+
+            throw new QuestNotFoundException("not found");
+          });
+
+      MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+      MvcResult result = mockMvc.perform(get("/quests/path/stream").param("name", "username"))
+          .andExpect(request().asyncStarted()).andReturn();
+
+      mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+          .andExpect(content().string(OBJECT_MAPPER.writeValueAsString(action.createDTO()) + "\n"
+              + "{\"error\":\"not found\"}\n"));
+
+      verify(pathCache, never()).put(any(), any());
+    }
+  }
 }
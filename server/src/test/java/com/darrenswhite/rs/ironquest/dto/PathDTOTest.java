@@ -1,11 +1,48 @@
 package com.darrenswhite.rs.ironquest.dto;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 public class PathDTOTest {
 
+  static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Nested
+  class Serialize {
+
+    @Test
+    void shouldWriteActionsAndStats() throws JsonProcessingException {
+      TrainActionDTO action = new TrainActionDTO.Builder().withFuture(true).withMessage("Train")
+          .build();
+      PathStatsDTO stats = new PathStatsDTO.Builder().withPercentComplete(50).build();
+      PathDTO path = new PathDTO.Builder().withActions(List.of(action, action)).withStats(stats)
+          .build();
+
+      JsonNode json = OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(path));
+      JsonNode actionJson = OBJECT_MAPPER.valueToTree(action);
+      JsonNode statsJson = OBJECT_MAPPER.valueToTree(stats);
+
+      assertThat(json.get("actions").size(), is(2));
+      assertThat(json.get("actions").get(0), is(actionJson));
+      assertThat(json.get("stats"), is(statsJson));
+    }
+
+    @Test
+    void shouldWriteNullActions() throws JsonProcessingException {
+      PathDTO path = new PathDTO.Builder().build();
+
+      assertThat(OBJECT_MAPPER.writeValueAsString(path), is("{\"actions\":null,\"stats\":null}"));
+    }
+  }
+
   @Nested
   class Equals {
 
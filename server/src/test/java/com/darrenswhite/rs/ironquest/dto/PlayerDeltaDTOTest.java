@@ -0,0 +1,55 @@
+package com.darrenswhite.rs.ironquest.dto;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PlayerDeltaDTOTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Nested
+  class Between {
+
+    @Test
+    void shouldOnlyContainChangedLevels() {
+      PlayerDTO previous = new PlayerDTO.Builder().setName("username")
+          .withLevels(Map.of(Skill.ATTACK, 10, Skill.HERBLORE, 5)).withQuestPoints(3)
+          .withTotalLevel(15).withCombatLevel(4).build();
+      PlayerDTO current = new PlayerDTO.Builder().setName("username")
+          .withLevels(Map.of(Skill.ATTACK, 10, Skill.HERBLORE, 8)).withQuestPoints(5)
+          .withTotalLevel(18).withCombatLevel(4).build();
+
+      PlayerDeltaDTO delta = PlayerDeltaDTO.between(previous, current);
+
+      assertThat(delta.getLevels(), is(Map.of(Skill.HERBLORE, 3)));
+      assertThat(delta.getQuestPoints(), is(2));
+      assertThat(delta.getTotalLevel(), is(3));
+      assertThat(delta.getCombatLevel(), is(0));
+    }
+  }
+
+  @Nested
+  class Serialize {
+
+    @Test
+    void shouldOmitUnchangedValuesAndName() {
+      PlayerDTO previous = new PlayerDTO.Builder().setName("username")
+          .withLevels(Map.of(Skill.ATTACK, 10)).withQuestPoints(3).withTotalLevel(10)
+          .withCombatLevel(4).build();
+      PlayerDTO current = new PlayerDTO.Builder().setName("username")
+          .withLevels(Map.of(Skill.ATTACK, 10)).withQuestPoints(4).withTotalLevel(10)
+          .withCombatLevel(4).build();
+
+      JsonNode json = OBJECT_MAPPER.valueToTree(PlayerDeltaDTO.between(previous, current));
+
+      assertThat(json.toString(), is("{\"questPoints\":1}"));
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.darrenswhite.rs.ironquest.path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import com.darrenswhite.rs.ironquest.action.QuestAction;
+import com.darrenswhite.rs.ironquest.action.TrainAction;
+import com.darrenswhite.rs.ironquest.dto.PlayerDeltaDTO;
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ActionDTOFactoryTest {
+
+  @Nested
+  class Create {
+
+    @Test
+    void shouldCreateFullPlayersWhenNotCompact() {
+      Player first = new Player.Builder().build();
+      Player second = first.copy();
+
+      second.addSkillXP(Skill.ATTACK, 100);
+
+      QuestAction questAction = new QuestAction(first, new Quest.Builder().build());
+      TrainAction trainAction = new TrainAction(second, Skill.ATTACK, 0, 100);
+      ActionDTOFactory factory = new ActionDTOFactory(false);
+
+      assertThat(factory.create(questAction), is(questAction.createDTO()));
+      assertThat(factory.create(trainAction), is(trainAction.createDTO()));
+    }
+
+    @Test
+    void shouldCreatePlayerDeltasFromLastActionWhenCompact() {
+      Player first = new Player.Builder().build();
+      Player second = first.copy();
+
+      second.addSkillXP(Skill.ATTACK, 100);
+
+      QuestAction questAction = new QuestAction(first, new Quest.Builder().build());
+      TrainAction trainAction = new TrainAction(second, Skill.ATTACK, 0, 100);
+      ActionDTOFactory factory = new ActionDTOFactory(true);
+
+      assertThat(factory.create(questAction), is(questAction.createDTO()));
+      assertThat(factory.create(trainAction).getPlayer(), instanceOf(PlayerDeltaDTO.class));
+      assertThat(factory.create(trainAction, questAction).getPlayer(),
+          is(PlayerDeltaDTO.between(first.createDTO(), second.createDTO())));
+    }
+  }
+}
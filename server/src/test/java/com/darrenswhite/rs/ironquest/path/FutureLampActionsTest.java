@@ -0,0 +1,131 @@
+package com.darrenswhite.rs.ironquest.path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.darrenswhite.rs.ironquest.action.LampAction;
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.reward.LampReward;
+import com.darrenswhite.rs.ironquest.quest.reward.LampType;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class FutureLampActionsTest {
+
+  static LampAction createLampAction(Player player, Map<Set<Skill>, Integer> requirements) {
+    LampReward lampReward = new LampReward.Builder(0).withType(LampType.XP).withXp(100)
+        .withRequirements(requirements).build();
+
+    return new LampAction(player, true, new Quest.Builder().build(), lampReward,
+        Collections.emptySet());
+  }
+
+  @Nested
+  class PollUnlocked {
+
+    @Test
+    void shouldUnlockWhenLevelIsReached() {
+      Player player = new Player.Builder().build();
+      FutureLampActions futureActions = new FutureLampActions(player);
+
+      futureActions.add(0, createLampAction(player, Map.of(Set.of(Skill.HERBLORE), 10)));
+
+      assertThat(futureActions.pollUnlocked(-1), nullValue());
+
+      player.addSkillXP(Skill.HERBLORE, Skill.HERBLORE.getXpAtLevel(10));
+
+      assertThat(futureActions.pollUnlocked(-1), is(0L));
+      assertThat(futureActions.pollUnlocked(-1), nullValue());
+    }
+
+    @Test
+    void shouldUnlockWhenAllSkillsInSetAreMet() {
+      Player player = new Player.Builder().build();
+      FutureLampActions futureActions = new FutureLampActions(player);
+
+      futureActions
+          .add(0, createLampAction(player, Map.of(Set.of(Skill.HERBLORE, Skill.ATTACK), 10)));
+
+      player.addSkillXP(Skill.HERBLORE, Skill.HERBLORE.getXpAtLevel(10));
+
+      assertThat(futureActions.pollUnlocked(-1), nullValue());
+
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(10));
+
+      assertThat(futureActions.pollUnlocked(-1), is(0L));
+    }
+
+    @Test
+    void shouldUnlockWhenAnySetIsMet() {
+      Player player = new Player.Builder().build();
+      FutureLampActions futureActions = new FutureLampActions(player);
+
+      futureActions.add(0, createLampAction(player,
+          Map.of(Set.of(Skill.HERBLORE), 10, Set.of(Skill.ATTACK), 20)));
+
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(20));
+
+      assertThat(futureActions.pollUnlocked(-1), is(0L));
+
+      player.addSkillXP(Skill.HERBLORE, Skill.HERBLORE.getXpAtLevel(10));
+
+      assertThat(futureActions.pollUnlocked(-1), nullValue());
+    }
+
+    @Test
+    void shouldUnlockInventionWhenInventionSkillsAreMet() {
+      Player player = new Player.Builder().withSkillXps(
+          Map.of(Skill.CRAFTING, Skill.CRAFTING.getXpAtLevel(80), Skill.SMITHING,
+              Skill.SMITHING.getXpAtLevel(80), Skill.INVENTION, 0d)).build();
+      FutureLampActions futureActions = new FutureLampActions(player);
+
+      futureActions.add(0, createLampAction(player, Map.of(Set.of(Skill.INVENTION), 1)));
+
+      assertThat(futureActions.pollUnlocked(-1), nullValue());
+
+      player.addSkillXP(Skill.DIVINATION, Skill.DIVINATION.getXpAtLevel(80));
+
+      assertThat(futureActions.pollUnlocked(-1), is(0L));
+    }
+
+    @Test
+    void shouldReturnUnlockedInSequenceOrderAfterGivenSequence() {
+      Player player = new Player.Builder().build();
+      FutureLampActions futureActions = new FutureLampActions(player);
+
+      futureActions.add(1, createLampAction(player, Map.of(Set.of(Skill.HERBLORE), 10)));
+      futureActions.add(3, createLampAction(player, Map.of(Set.of(Skill.ATTACK), 10)));
+      futureActions.add(5, createLampAction(player, Map.of(Set.of(Skill.HERBLORE), 5)));
+
+      player.addSkillXP(Skill.HERBLORE, Skill.HERBLORE.getXpAtLevel(10));
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(10));
+
+      assertThat(futureActions.pollUnlocked(2), is(3L));
+      assertThat(futureActions.pollUnlocked(3), is(5L));
+      assertThat(futureActions.pollUnlocked(5), nullValue());
+      assertThat(futureActions.pollUnlocked(-1), is(1L));
+    }
+
+    @Test
+    void shouldIgnoreRemovedActionWhenSequenceIsReused() {
+      Player player = new Player.Builder().build();
+      FutureLampActions futureActions = new FutureLampActions(player);
+
+      futureActions.add(0, createLampAction(player,
+          Map.of(Set.of(Skill.HERBLORE), 1, Set.of(Skill.ATTACK), 10)));
+
+      assertThat(futureActions.pollUnlocked(-1), is(0L));
+
+      futureActions.add(0, createLampAction(player, Map.of(Set.of(Skill.MINING), 10)));
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(10));
+
+      assertThat(futureActions.pollUnlocked(-1), nullValue());
+    }
+  }
+}
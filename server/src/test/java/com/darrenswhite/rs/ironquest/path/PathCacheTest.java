@@ -0,0 +1,224 @@
+package com.darrenswhite.rs.ironquest.path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.darrenswhite.rs.ironquest.action.Action;
+import com.darrenswhite.rs.ironquest.dto.PathFinderParametersDTO;
+import com.darrenswhite.rs.ironquest.path.algorithm.AlgorithmId;
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.QuestPriority;
+import com.darrenswhite.rs.ironquest.player.QuestStatus;
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.QuestGraph;
+import com.darrenswhite.rs.ironquest.quest.QuestsReloadedEvent;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PathCacheTest {
+
+  private static final QuestGraph QUEST_GRAPH = new QuestGraph(
+      Set.of(new Quest.Builder(0).build()));
+
+  private static Player createPlayer(Quest quest) {
+    return createPlayer(quest, QUEST_GRAPH);
+  }
+
+  private static Player createPlayer(Quest quest, QuestGraph questGraph) {
+    return new Player.Builder().withQuests(Set.of(quest)).withQuestGraph(questGraph).build();
+  }
+
+  private static Path createPath(int actions) {
+    Path path = mock(Path.class);
+
+    when(path.getActions()).thenReturn(Collections.nCopies(actions, mock(Action.class)));
+
+    return path;
+  }
+
+  @Nested
+  class Get {
+
+    @Test
+    void shouldReturnCachedPath() {
+      PathCache pathCache = new PathCache(10, 100);
+      Path path = mock(Path.class);
+      Quest quest = new Quest.Builder(0).build();
+      PathFinderParametersDTO parameters = new PathFinderParametersDTO();
+
+      pathCache.put(pathCache.createKey(parameters, createPlayer(quest)), path);
+
+      assertThat(pathCache.get(pathCache.createKey(parameters, createPlayer(quest))),
+          is(Optional.of(path)));
+    }
+
+    @Test
+    void shouldNotReturnPathForDifferentPlayerState() {
+      PathCache pathCache = new PathCache(10, 100);
+      Quest quest = new Quest.Builder(0).build();
+      PathFinderParametersDTO parameters = new PathFinderParametersDTO();
+      Player completed = createPlayer(quest);
+      Player trained = createPlayer(quest);
+
+      completed.setQuestStatus(quest, QuestStatus.COMPLETED);
+      trained.addSkillXP(Skill.ATTACK, 100);
+
+      pathCache.put(pathCache.createKey(parameters, createPlayer(quest)), mock(Path.class));
+
+      assertThat(pathCache.get(pathCache.createKey(parameters, completed)), is(Optional.empty()));
+      assertThat(pathCache.get(pathCache.createKey(parameters, trained)), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotReturnPathForDifferentParameters() {
+      PathCache pathCache = new PathCache(10, 100);
+      Quest quest = new Quest.Builder(0).build();
+      PathFinderParametersDTO parameters = new PathFinderParametersDTO();
+      PathFinderParametersDTO smartPriorities = new PathFinderParametersDTO();
+
+      smartPriorities.setAlgorithm(AlgorithmId.SMART_PRIORITIES);
+
+      pathCache.put(pathCache.createKey(parameters, createPlayer(quest)), mock(Path.class));
+
+      assertThat(pathCache.get(pathCache.createKey(smartPriorities, createPlayer(quest))),
+          is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotReturnPathForDifferentQuestGraph() {
+      PathCache pathCache = new PathCache(10, 100);
+      Quest quest = new Quest.Builder(0).build();
+      PathFinderParametersDTO parameters = new PathFinderParametersDTO();
+
+      pathCache.put(pathCache.createKey(parameters, createPlayer(quest)), mock(Path.class));
+
+      assertThat(pathCache.get(
+          pathCache.createKey(parameters, createPlayer(quest, new QuestGraph(Set.of(quest))))),
+          is(Optional.empty()));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPath() {
+      PathCache pathCache = new PathCache(2, 100);
+      Quest quest = new Quest.Builder(0).build();
+      Player player = createPlayer(quest);
+      PathFinderParametersDTO first = new PathFinderParametersDTO();
+      PathFinderParametersDTO second = new PathFinderParametersDTO();
+      PathFinderParametersDTO third = new PathFinderParametersDTO();
+
+      first.setName("first");
+      second.setName("second");
+      third.setName("third");
+
+      pathCache.put(pathCache.createKey(first, player), mock(Path.class));
+      pathCache.put(pathCache.createKey(second, player), mock(Path.class));
+      pathCache.get(pathCache.createKey(first, player));
+      pathCache.put(pathCache.createKey(third, player), mock(Path.class));
+
+      assertThat(pathCache.get(pathCache.createKey(first, player)), not(Optional.empty()));
+      assertThat(pathCache.get(pathCache.createKey(second, player)), is(Optional.empty()));
+      assertThat(pathCache.get(pathCache.createKey(third, player)), not(Optional.empty()));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPathsWhenTooManyActions() {
+      PathCache pathCache = new PathCache(10, 100);
+      Quest quest = new Quest.Builder(0).build();
+      Player player = createPlayer(quest);
+      PathFinderParametersDTO first = new PathFinderParametersDTO();
+      PathFinderParametersDTO second = new PathFinderParametersDTO();
+      PathFinderParametersDTO third = new PathFinderParametersDTO();
+
+      first.setName("first");
+      second.setName("second");
+      third.setName("third");
+
+      pathCache.put(pathCache.createKey(first, player), createPath(40));
+      pathCache.put(pathCache.createKey(second, player), createPath(40));
+      pathCache.get(pathCache.createKey(first, player));
+      pathCache.put(pathCache.createKey(third, player), createPath(40));
+
+      assertThat(pathCache.get(pathCache.createKey(first, player)), not(Optional.empty()));
+      assertThat(pathCache.get(pathCache.createKey(second, player)), is(Optional.empty()));
+      assertThat(pathCache.get(pathCache.createKey(third, player)), not(Optional.empty()));
+    }
+
+    @Test
+    void shouldReleaseActionsOfReplacedPath() {
+      PathCache pathCache = new PathCache(10, 100);
+      Quest quest = new Quest.Builder(0).build();
+      Player player = createPlayer(quest);
+      PathFinderParametersDTO first = new PathFinderParametersDTO();
+      PathFinderParametersDTO second = new PathFinderParametersDTO();
+
+      first.setName("first");
+      second.setName("second");
+
+      pathCache.put(pathCache.createKey(first, player), createPath(60));
+      pathCache.put(pathCache.createKey(first, player), createPath(60));
+      pathCache.put(pathCache.createKey(second, player), createPath(40));
+
+      assertThat(pathCache.get(pathCache.createKey(first, player)), not(Optional.empty()));
+      assertThat(pathCache.get(pathCache.createKey(second, player)), not(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotCachePathWithTooManyActions() {
+      PathCache pathCache = new PathCache(10, 100);
+      Quest quest = new Quest.Builder(0).build();
+      Player player = createPlayer(quest);
+      PathFinderParametersDTO first = new PathFinderParametersDTO();
+      PathFinderParametersDTO second = new PathFinderParametersDTO();
+
+      first.setName("first");
+      second.setName("second");
+
+      pathCache.put(pathCache.createKey(first, player), createPath(50));
+      pathCache.put(pathCache.createKey(second, player), createPath(101));
+
+      assertThat(pathCache.get(pathCache.createKey(first, player)), not(Optional.empty()));
+      assertThat(pathCache.get(pathCache.createKey(second, player)), is(Optional.empty()));
+    }
+  }
+
+  @Nested
+  class OnQuestsReloaded {
+
+    @Test
+    void shouldRemoveAllPaths() {
+      PathCache pathCache = new PathCache(10, 100);
+      Player player = createPlayer(new Quest.Builder(0).build());
+      PathFinderParametersDTO parameters = new PathFinderParametersDTO();
+
+      pathCache.put(pathCache.createKey(parameters, player), mock(Path.class));
+      pathCache.onQuestsReloaded(mock(QuestsReloadedEvent.class));
+
+      assertThat(pathCache.get(pathCache.createKey(parameters, player)), is(Optional.empty()));
+    }
+  }
+
+  @Nested
+  class CreateKey {
+
+    @Test
+    void shouldIgnoreNormalQuestPriorities() {
+      PathCache pathCache = new PathCache(10, 100);
+      Player player = createPlayer(new Quest.Builder(0).build());
+      PathFinderParametersDTO parameters = new PathFinderParametersDTO();
+      PathFinderParametersDTO normalPriorities = new PathFinderParametersDTO();
+
+      normalPriorities.setQuestPriorities(Map.of(0, QuestPriority.NORMAL));
+
+      assertThat(pathCache.createKey(parameters, player),
+          is(pathCache.createKey(normalPriorities, player)));
+    }
+  }
+}
@@ -1,11 +1,13 @@
 package com.darrenswhite.rs.ironquest.path;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.darrenswhite.rs.ironquest.action.Action;
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.QuestStatus;
 import com.darrenswhite.rs.ironquest.player.Skill;
@@ -16,14 +18,41 @@ import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirements;
 import com.darrenswhite.rs.ironquest.quest.reward.LampReward;
 import com.darrenswhite.rs.ironquest.quest.reward.LampType;
 import com.darrenswhite.rs.ironquest.quest.reward.QuestRewards;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 class PathFinderTest {
 
+  static class RecordingListener implements PathListener {
+
+    final List<String> events = new ArrayList<>();
+    final List<Action> actions = new ArrayList<>();
+
+    @Override
+    public void onAction(int index, Action action) {
+      events.add(index + ": " + action.getMessage());
+      actions.add(action);
+    }
+
+    @Override
+    public void onResolved(int index) {
+      events.add("resolved: " + index);
+      actions.set(index, null);
+    }
+
+    List<Action> getPath() {
+      return actions.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+  }
+
   @Nested
   class Find {
 
@@ -131,5 +160,74 @@ class PathFinderTest {
 
       assertThrows(QuestNotFoundException.class, () -> new PathFinder(player).find());
     }
+
+    @Test
+    void shouldPassActionsToListenerInPathOrder() throws QuestNotFoundException {
+      Quest questWithXpLampReward = new Quest.Builder().withId(0)
+          .withDisplayName("questWithXpLampReward").withRewards(new QuestRewards.Builder()
+              .withLamps(Set.of(new LampReward.Builder(0).withType(LampType.XP).withXp(1000)
+                  .withRequirements(Map.of(Set.of(Skill.ATTACK), 2)).build())).build()).build();
+      Quest questWithQuestRequirementAndXpReward = new Quest.Builder().withId(1)
+          .withDisplayName("questWithXpReward").withRequirements(new QuestRequirements.Builder()
+              .withQuests(Collections
+                  .singleton(new QuestRequirement.Builder(questWithXpLampReward).build())).build())
+          .withRewards(new QuestRewards.Builder().withXp(Map.of(Skill.ATTACK, 500d)).build())
+          .build();
+      Quest questNotStarted = new Quest.Builder().withId(2).withDisplayName("questNotStarted")
+          .build();
+      Player player = new Player.Builder().withQuests(
+          Set.of(questWithXpLampReward, questWithQuestRequirementAndXpReward, questNotStarted))
+          .build();
+      RecordingListener listener = new RecordingListener();
+
+      Path path = new PathFinder(player).find(listener);
+
+      assertThat(path.getActions(), hasSize(4));
+      assertThat(listener.getPath(), is(path.getActions()));
+    }
+
+    @Test
+    void shouldPassActionsAfterLockedLampBeforeItIsResolved() throws QuestNotFoundException {
+      Quest questWithXpLampReward = new Quest.Builder().withId(0)
+          .withDisplayName("questWithXpLampReward").withRewards(new QuestRewards.Builder()
+              .withLamps(Set.of(new LampReward.Builder(0).withType(LampType.XP).withXp(1000)
+                  .withRequirements(Map.of(Set.of(Skill.ATTACK), 2)).build())).build()).build();
+      Quest questWithQuestRequirement = new Quest.Builder().withId(1)
+          .withDisplayName("questWithQuestRequirement").withRequirements(
+              new QuestRequirements.Builder().withQuests(Collections
+                  .singleton(new QuestRequirement.Builder(questWithXpLampReward).build())).build())
+          .build();
+      Quest questWithXpReward = new Quest.Builder().withId(2).withDisplayName("questWithXpReward")
+          .withRequirements(new QuestRequirements.Builder().withQuests(Collections
+              .singleton(new QuestRequirement.Builder(questWithQuestRequirement).build())).build())
+          .withRewards(new QuestRewards.Builder().withXp(Map.of(Skill.ATTACK, 500d)).build())
+          .build();
+      Player player = new Player.Builder().withQuests(
+          Set.of(questWithXpLampReward, questWithQuestRequirement, questWithXpReward)).build();
+      RecordingListener listener = new RecordingListener();
+
+      Path path = new PathFinder(player).find(listener);
+
+      assertThat(listener.events, contains("0: questWithXpLampReward",
+          "1: questWithXpLampReward: Use XP Lamp to gain 1k xp (when requirements are met)",
+          "2: questWithQuestRequirement", "3: questWithXpReward", "resolved: 1",
+          "4: questWithXpLampReward: Use XP Lamp on Attack to gain 1k xp"));
+      assertThat(listener.getPath(), is(path.getActions()));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenInterrupted() {
+      Quest questNotStarted = new Quest.Builder().withId(0).withDisplayName("questNotStarted")
+          .build();
+      Player player = new Player.Builder().withQuests(Set.of(questNotStarted)).build();
+
+      Thread.currentThread().interrupt();
+
+      try {
+        assertThrows(CancellationException.class, () -> new PathFinder(player).find());
+      } finally {
+        Thread.interrupted();
+      }
+    }
   }
 }
@@ -1,13 +1,17 @@
 package com.darrenswhite.rs.ironquest.path;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.darrenswhite.rs.ironquest.action.Action;
 import com.darrenswhite.rs.ironquest.action.LampAction;
 import com.darrenswhite.rs.ironquest.action.QuestAction;
 import com.darrenswhite.rs.ironquest.action.TrainAction;
 import com.darrenswhite.rs.ironquest.dto.PathDTO;
+import com.darrenswhite.rs.ironquest.dto.PlayerDeltaDTO;
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.Skill;
 import com.darrenswhite.rs.ironquest.quest.Quest;
@@ -43,6 +47,44 @@ class PathTest {
       assertThat(dto.getActions().size(), is(actions.size()));
       assertThat(dto.getStats().getPercentComplete(), is(stats.getPercentComplete()));
     }
+
+    @Test
+    void shouldCreateActionDTOsWhenAccessed() {
+      Quest quest = new Quest.Builder().build();
+      Player player = new Player.Builder().build();
+      QuestAction questAction = new QuestAction(player, quest);
+      TrainAction trainAction = new TrainAction(player, Skill.ATTACK, 0, 100);
+      List<Action> actions = new LinkedList<>(List.of(questAction, trainAction));
+      Path path = new Path(actions, new PathStats(0));
+
+      PathDTO dto = path.createDTO();
+
+      assertThat(dto.getActions(), contains(questAction.createDTO(), trainAction.createDTO()));
+      assertThat(dto.getActions().get(1), is(trainAction.createDTO()));
+      assertThrows(UnsupportedOperationException.class, () -> dto.getActions().remove(0));
+    }
+
+    @Test
+    void shouldCreatePlayerDeltasWhenCompact() {
+      Quest quest = new Quest.Builder().build();
+      Player first = new Player.Builder().build();
+      Player second = first.copy();
+
+      second.addSkillXP(Skill.ATTACK, 100);
+
+      QuestAction questAction = new QuestAction(first, quest);
+      TrainAction trainAction = new TrainAction(second, Skill.ATTACK, 0, 100);
+      List<Action> actions = new LinkedList<>(List.of(questAction, trainAction));
+      Path path = new Path(actions, new PathStats(0));
+
+      PathDTO dto = path.createDTO(true);
+
+      assertThat(dto.getActions().get(0), is(questAction.createDTO()));
+      assertThat(dto.getActions().get(1).getPlayer(), instanceOf(PlayerDeltaDTO.class));
+      assertThat(dto.getActions().get(1).getPlayer(),
+          is(PlayerDeltaDTO.between(first.createDTO(), second.createDTO())));
+      assertThat(dto.getActions().get(1).getPlayer().getTotalLevel(), is(1));
+    }
   }
 
   @Nested
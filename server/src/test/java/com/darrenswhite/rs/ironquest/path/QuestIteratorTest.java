@@ -5,11 +5,19 @@ import static org.hamcrest.Matchers.is;
 
 import com.darrenswhite.rs.ironquest.path.algorithm.DefaultAlgorithm;
 import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.QuestStatus;
+import com.darrenswhite.rs.ironquest.player.Skill;
 import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.requirement.CombatRequirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestPointsRequirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirements;
+import com.darrenswhite.rs.ironquest.quest.reward.QuestRewards;
 import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -38,4 +46,73 @@ class QuestIteratorTest {
           Arguments.of(Set.of(questWithNoRequirements), true));
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  class Next {
+
+    @Test
+    void shouldReturnQuestWhenQuestRequirementCompleted() {
+      Quest requiredQuest = new Quest.Builder().withId(0).withDisplayName("requiredQuest").build();
+      Quest questWithQuestRequirement = new Quest.Builder().withId(1)
+          .withDisplayName("questWithQuestRequirement").withRequirements(
+              new QuestRequirements.Builder()
+                  .withQuests(Set.of(new QuestRequirement.Builder(requiredQuest).build())).build())
+          .build();
+      Player player = new Player.Builder()
+          .withQuests(Set.of(requiredQuest, questWithQuestRequirement)).build();
+      QuestIterator iterator = new QuestIterator(player, new DefaultAlgorithm());
+
+      assertThat(iterator.hasNext(), is(true));
+      assertThat(iterator.next(), is(requiredQuest));
+
+      player.setQuestStatus(requiredQuest, QuestStatus.COMPLETED);
+
+      assertThat(iterator.hasNext(), is(true));
+      assertThat(iterator.next(), is(questWithQuestRequirement));
+
+      player.setQuestStatus(questWithQuestRequirement, QuestStatus.COMPLETED);
+
+      assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    void shouldReturnQuestWhenQuestPointRequirementMet() {
+      Quest questWithQuestPointReward = new Quest.Builder().withId(0)
+          .withDisplayName("questWithQuestPointReward")
+          .withRewards(new QuestRewards.Builder().withQuestPoints(2).build()).build();
+      Quest questWithQuestPointRequirement = new Quest.Builder().withId(1)
+          .withDisplayName("questWithQuestPointRequirement").withRequirements(
+              new QuestRequirements.Builder()
+                  .withQuestPoints(new QuestPointsRequirement.Builder(2).build()).build()).build();
+      Player player = new Player.Builder()
+          .withQuests(Set.of(questWithQuestPointReward, questWithQuestPointRequirement)).build();
+      QuestIterator iterator = new QuestIterator(player, new DefaultAlgorithm());
+
+      assertThat(iterator.hasNext(), is(true));
+      assertThat(iterator.next(), is(questWithQuestPointReward));
+
+      player.setQuestStatus(questWithQuestPointReward, QuestStatus.COMPLETED);
+
+      assertThat(iterator.hasNext(), is(true));
+      assertThat(iterator.next(), is(questWithQuestPointRequirement));
+    }
+
+    @Test
+    void shouldReturnQuestWhenCombatRequirementMet() {
+      Quest questWithCombatRequirement = new Quest.Builder().withId(0)
+          .withDisplayName("questWithCombatRequirement").withRequirements(
+              new QuestRequirements.Builder().withCombat(new CombatRequirement.Builder(10).build())
+                  .build()).build();
+      Player player = new Player.Builder().withQuests(Set.of(questWithCombatRequirement)).build();
+      QuestIterator iterator = new QuestIterator(player, new DefaultAlgorithm());
+
+      assertThat(iterator.hasNext(), is(false));
+
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(20));
+      player.addSkillXP(Skill.STRENGTH, Skill.STRENGTH.getXpAtLevel(20));
+
+      assertThat(iterator.hasNext(), is(true));
+      assertThat(iterator.next(), is(questWithCombatRequirement));
+    }
+  }
+}
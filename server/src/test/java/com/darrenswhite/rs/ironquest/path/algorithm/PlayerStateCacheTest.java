@@ -0,0 +1,34 @@
+package com.darrenswhite.rs.ironquest.path.algorithm;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.darrenswhite.rs.ironquest.player.Player;
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PlayerStateCacheTest {
+
+  @Nested
+  class Get {
+
+    @Test
+    void shouldCalculateValueOncePerPlayerState() {
+      Quest quest = new Quest.Builder(0).build();
+      Player player = new Player.Builder().build();
+      PlayerStateCache<Integer> cache = new PlayerStateCache<>(player);
+      AtomicInteger calls = new AtomicInteger();
+
+      assertThat(cache.get(quest, q -> calls.incrementAndGet()), is(1));
+      assertThat(cache.get(quest, q -> calls.incrementAndGet()), is(1));
+
+      player.addSkillXP(Skill.ATTACK, 100);
+
+      assertThat(cache.get(quest, q -> calls.incrementAndGet()), is(2));
+      assertThat(calls.get(), is(2));
+    }
+  }
+}
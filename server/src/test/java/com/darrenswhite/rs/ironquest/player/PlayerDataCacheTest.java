@@ -0,0 +1,270 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PlayerDataCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+  private static final Duration STALE = Duration.ofMinutes(10);
+
+  private static PlayerDataCache<Integer> createCache(MutableClock clock, int size) {
+    return new PlayerDataCache<>(TTL, STALE, size, clock, Runnable::run);
+  }
+
+  static class MutableClock extends Clock {
+
+    private Instant instant = Instant.EPOCH;
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+
+  @Nested
+  class Get {
+
+    @Test
+    void shouldReturnCachedValueWhenFresh() throws IOException {
+      MutableClock clock = new MutableClock();
+      PlayerDataCache<Integer> cache = createCache(clock, 10);
+      AtomicInteger loads = new AtomicInteger();
+
+      cache.get("user", name -> loads.incrementAndGet());
+      clock.advance(TTL.minusSeconds(1));
+
+      assertThat(cache.get("user", name -> loads.incrementAndGet()), is(1));
+      assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    void shouldReturnStaleValueAndRevalidate() throws IOException {
+      MutableClock clock = new MutableClock();
+      PlayerDataCache<Integer> cache = createCache(clock, 10);
+      AtomicInteger loads = new AtomicInteger();
+
+      cache.get("user", name -> loads.incrementAndGet());
+      clock.advance(TTL);
+
+      assertThat(cache.get("user", name -> loads.incrementAndGet()), is(1));
+      assertThat(loads.get(), is(2));
+      assertThat(cache.get("user", name -> loads.incrementAndGet()), is(2));
+    }
+
+    @Test
+    void shouldLoadValueWhenExpired() throws IOException {
+      MutableClock clock = new MutableClock();
+      PlayerDataCache<Integer> cache = createCache(clock, 10);
+      AtomicInteger loads = new AtomicInteger();
+
+      cache.get("user", name -> loads.incrementAndGet());
+      clock.advance(TTL.plus(STALE));
+
+      assertThat(cache.get("user", name -> loads.incrementAndGet()), is(2));
+    }
+
+    @Test
+    void shouldNotCacheFailedLoad() throws IOException {
+      PlayerDataCache<Integer> cache = createCache(new MutableClock(), 10);
+
+      assertThrows(IOException.class, () -> cache.get("user", name -> {
+        throw new IOException("failed");
+      }));
+      assertThat(cache.get("user", name -> 1), is(1));
+    }
+
+    @Test
+    void shouldKeepStaleValueWhenRevalidateFails() throws IOException {
+      MutableClock clock = new MutableClock();
+      PlayerDataCache<Integer> cache = createCache(clock, 10);
+
+      cache.get("user", name -> 1);
+      clock.advance(TTL);
+
+      assertThat(cache.get("user", name -> {
+        throw new IOException("failed");
+      }), is(1));
+      assertThat(cache.get("user", name -> 2), is(1));
+    }
+
+    @Test
+    void shouldKeepStaleValueWhenRevalidateIsRejected() throws IOException {
+      MutableClock clock = new MutableClock();
+      AtomicBoolean reject = new AtomicBoolean();
+      PlayerDataCache<Integer> cache = new PlayerDataCache<>(TTL, STALE, 10, clock, task -> {
+        if (reject.get()) {
+          throw new RejectedExecutionException();
+        }
+        task.run();
+      });
+
+      cache.get("user", name -> 1);
+      clock.advance(TTL);
+      reject.set(true);
+
+      assertThat(cache.get("user", name -> 2), is(1));
+
+      reject.set(false);
+
+      assertThat(cache.get("user", name -> 2), is(1));
+      assertThat(cache.get("user", name -> 3), is(2));
+    }
+
+    @Test
+    void shouldQueueSingleRevalidateForConcurrentRequests() throws IOException {
+      MutableClock clock = new MutableClock();
+      List<Runnable> queued = new ArrayList<>();
+      PlayerDataCache<Integer> cache = new PlayerDataCache<>(TTL, STALE, 10, clock, queued::add);
+      AtomicInteger loads = new AtomicInteger();
+
+      cache.get("user", name -> loads.incrementAndGet());
+      clock.advance(TTL);
+
+      assertThat(cache.get("user", name -> loads.incrementAndGet()), is(1));
+      assertThat(cache.get("user", name -> loads.incrementAndGet()), is(1));
+      assertThat(queued, hasSize(1));
+
+      queued.get(0).run();
+
+      assertThat(loads.get(), is(2));
+      assertThat(cache.get("user", name -> loads.incrementAndGet()), is(2));
+    }
+
+    @Test
+    void shouldIgnoreCaseAndWhitespaceOfName() throws IOException {
+      PlayerDataCache<Integer> cache = createCache(new MutableClock(), 10);
+
+      cache.get("User ", name -> 1);
+
+      assertThat(cache.get("user", name -> 2), is(1));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedValue() throws IOException {
+      PlayerDataCache<Integer> cache = createCache(new MutableClock(), 2);
+
+      cache.get("first", name -> 1);
+      cache.get("second", name -> 2);
+      cache.get("first", name -> 0);
+      cache.get("third", name -> 3);
+
+      assertThat(cache.get("first", name -> 0), is(1));
+      assertThat(cache.get("second", name -> 0), is(0));
+    }
+
+    @Test
+    void shouldShareConcurrentLoads() throws Exception {
+      PlayerDataCache<Integer> cache = createCache(new MutableClock(), 10);
+      AtomicInteger loads = new AtomicInteger();
+      CountDownLatch loading = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+
+      try {
+        Future<Integer> first = executor.submit(() -> cache.get("user", name -> {
+          loading.countDown();
+
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            throw new IOException(e);
+          }
+
+          return loads.incrementAndGet();
+        }));
+
+        loading.await(5, TimeUnit.SECONDS);
+
+        Thread waiting = new Thread(() -> {
+          try {
+            cache.get("user", name -> loads.incrementAndGet());
+          } catch (IOException e) {
+            throw new IllegalStateException(e);
+          }
+        });
+
+        waiting.start();
+
+        while (waiting.getState() != Thread.State.WAITING) {
+          Thread.onSpinWait();
+        }
+
+        release.countDown();
+        waiting.join(5000);
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is(1));
+        assertThat(loads.get(), is(1));
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void shouldStopWaitingForSharedLoadWhenInterrupted() throws Exception {
+      PlayerDataCache<Integer> cache = createCache(new MutableClock(), 10);
+      CountDownLatch loading = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+
+      try {
+        executor.submit(() -> cache.get("user", name -> {
+          loading.countDown();
+
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            throw new IOException(e);
+          }
+
+          return 1;
+        }));
+
+        loading.await(5, TimeUnit.SECONDS);
+        Thread.currentThread().interrupt();
+
+        assertThrows(InterruptedIOException.class, () -> cache.get("user", name -> 2));
+        assertThat(Thread.interrupted(), is(true));
+      } finally {
+        release.countDown();
+        executor.shutdownNow();
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PlayerLoadExecutorTest {
+
+  @Nested
+  class Submit {
+
+    @Test
+    void shouldRunTaskOnDaemonLoadThread() throws Exception {
+      PlayerLoadExecutor executor = new PlayerLoadExecutor(1, 1);
+
+      try {
+        Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+        assertThat(thread.isDaemon(), is(true));
+        assertThat(thread.getName(), startsWith("player-load-"));
+      } finally {
+        executor.destroy();
+      }
+    }
+
+    @Test
+    void shouldInterruptTaskWhenCancelled() throws Exception {
+      PlayerLoadExecutor executor = new PlayerLoadExecutor(1, 1);
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch interrupted = new CountDownLatch(1);
+
+      try {
+        Future<Object> future = executor.submit(() -> {
+          started.countDown();
+          try {
+            new CountDownLatch(1).await();
+          } catch (InterruptedException e) {
+            interrupted.countDown();
+          }
+          return null;
+        });
+
+        started.await(10, TimeUnit.SECONDS);
+        future.cancel(true);
+
+        assertThat(interrupted.await(10, TimeUnit.SECONDS), is(true));
+      } finally {
+        executor.destroy();
+      }
+    }
+
+    @Test
+    void shouldRejectTaskWhenQueueIsFull() throws Exception {
+      PlayerLoadExecutor executor = new PlayerLoadExecutor(1, 1);
+      CountDownLatch release = new CountDownLatch(1);
+
+      try {
+        Future<Boolean> running = executor.submit(() -> release.await(10, TimeUnit.SECONDS));
+        Future<Boolean> queued = executor.submit(() -> true);
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+
+        release.countDown();
+
+        assertThat(running.get(10, TimeUnit.SECONDS), is(true));
+        assertThat(queued.get(10, TimeUnit.SECONDS), is(true));
+      } finally {
+        executor.destroy();
+      }
+    }
+  }
+
+  @Nested
+  class Destroy {
+
+    @Test
+    void shouldRejectTasksAfterDestroy() {
+      PlayerLoadExecutor executor = new PlayerLoadExecutor();
+
+      executor.destroy();
+
+      assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> true));
+    }
+  }
+}
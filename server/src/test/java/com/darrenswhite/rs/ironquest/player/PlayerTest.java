@@ -1,28 +1,47 @@
 package com.darrenswhite.rs.ironquest.player;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.darrenswhite.rs.ironquest.quest.Quest;
 import com.darrenswhite.rs.ironquest.quest.Quest.Builder;
+import com.darrenswhite.rs.ironquest.quest.RuneMetricsQuest;
 import com.darrenswhite.rs.ironquest.quest.requirement.CombatRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.QuestPointsRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirements;
+import com.darrenswhite.rs.ironquest.quest.requirement.SkillRequirement;
 import com.darrenswhite.rs.ironquest.quest.reward.LampReward;
 import com.darrenswhite.rs.ironquest.quest.reward.LampType;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 public class PlayerTest {
 
+  static Quest createSkillQuest(int id, Skill skill, int level) {
+    return new Quest.Builder(id).withRequirements(new QuestRequirements.Builder()
+        .withSkills(Set.of(new SkillRequirement.Builder(skill, level).build())).build()).build();
+  }
+
   @Nested
   class Copy {
 
@@ -40,7 +59,7 @@ public class PlayerTest {
     }
 
     @Test
-    public void shouldCopyQuestEntryPriority() {
+    public void shouldCopyQuestPriority() {
       Quest quest = new Builder(0).build();
       Player original = new Player.Builder().withQuests(Set.of(quest)).build();
 
@@ -54,7 +73,7 @@ public class PlayerTest {
     }
 
     @Test
-    public void shouldCopyQuestEntryStatus() {
+    public void shouldCopyQuestStatus() {
       Quest quest = new Builder(0).build();
       Player original = new Player.Builder().withQuests(Set.of(quest)).build();
 
@@ -66,6 +85,38 @@ public class PlayerTest {
       assertThat(original, not(sameInstance(copy)));
       assertThat(copy.getQuestStatus(quest), is(QuestStatus.COMPLETED));
     }
+
+    @Test
+    public void shouldNotModifyOriginalWhenCopyIsModified() {
+      Quest quest = new Builder(0).build();
+      Player original = new Player.Builder().withQuests(Set.of(quest)).build();
+
+      Player copy = original.copy();
+
+      copy.setQuestStatus(quest, QuestStatus.COMPLETED);
+      copy.addSkillXP(Skill.ATTACK, 1000);
+
+      assertThat(original.getQuestStatus(quest), is(QuestStatus.NOT_STARTED));
+      assertThat(original.getXp(Skill.ATTACK), is(0d));
+      assertThat(copy.getQuestStatus(quest), is(QuestStatus.COMPLETED));
+      assertThat(copy.getXp(Skill.ATTACK), is(1000d));
+    }
+
+    @Test
+    public void shouldNotModifyCopyWhenOriginalIsModified() {
+      Quest quest = new Builder(0).build();
+      Player original = new Player.Builder().withQuests(Set.of(quest)).build();
+
+      Player copy = original.copy();
+
+      original.setQuestPriority(quest, QuestPriority.MAXIMUM);
+      original.addSkillXP(Skill.ATTACK, 1000);
+
+      assertThat(copy.getQuestPriority(quest), is(QuestPriority.NORMAL));
+      assertThat(copy.getXp(Skill.ATTACK), is(0d));
+      assertThat(original.getQuestPriority(quest), is(QuestPriority.MAXIMUM));
+      assertThat(original.getXp(Skill.ATTACK), is(1000d));
+    }
   }
 
   @Nested
@@ -133,6 +184,338 @@ public class PlayerTest {
       assertThrows(LampSkillsNotFoundException.class,
           () -> player.getOptimalLampSkills(lampReward, Collections.emptySet()));
     }
+
+    @Test
+    void shouldChooseSkillWithHighestRemainingRequirement() {
+      LampReward lampReward = new LampReward.Builder(0)
+          .withRequirements(Map.of(Set.of(Skill.ATTACK), 1, Set.of(Skill.HERBLORE), 1))
+          .withXp(100).withType(LampType.XP).withSingleChoice(true).build();
+      Quest attack = createSkillQuest(0, Skill.ATTACK, 20);
+      Quest herblore = createSkillQuest(1, Skill.HERBLORE, 10);
+      Player player = new Player.Builder().withQuests(Set.of(attack, herblore)).build();
+
+      assertThat(player.getOptimalLampSkills(lampReward, Collections.emptySet()),
+          is(Set.of(Skill.ATTACK)));
+
+      player.setQuestStatus(attack, QuestStatus.COMPLETED);
+
+      assertThat(player.getOptimalLampSkills(lampReward, Collections.emptySet()),
+          is(Set.of(Skill.HERBLORE)));
+    }
+
+    @Test
+    void shouldChooseFirstChoiceWhenRemainingRequirementsAreEqual() {
+      Map<Set<Skill>, Integer> requirements = new LinkedHashMap<>();
+
+      requirements.put(Set.of(Skill.HERBLORE), 1);
+      requirements.put(Set.of(Skill.AGILITY), 1);
+
+      LampReward lampReward = new LampReward.Builder(0).withRequirements(requirements)
+          .withXp(100).withType(LampType.XP).build();
+      Player player = new Player.Builder().build();
+
+      assertThat(player.getOptimalLampSkills(lampReward, Collections.emptySet()),
+          is(Set.of(Skill.HERBLORE)));
+      assertThat(player.getOptimalLampSkills(lampReward, Set.of(Set.of(Skill.HERBLORE))),
+          is(Set.of(Skill.HERBLORE)));
+    }
+
+    @Test
+    void shouldChooseSkillForPrioritisedQuests() {
+      LampReward lampReward = new LampReward.Builder(0)
+          .withRequirements(Map.of(Set.of(Skill.ATTACK), 1, Set.of(Skill.HERBLORE), 1))
+          .withXp(100).withType(LampType.XP).withSingleChoice(true).build();
+      Quest attack = createSkillQuest(0, Skill.ATTACK, 20);
+      Quest herblore = createSkillQuest(1, Skill.HERBLORE, 10);
+      Player player = new Player.Builder().withQuests(Set.of(attack, herblore)).build();
+
+      player.setQuestPriority(herblore, QuestPriority.HIGH);
+
+      assertThat(player.getOptimalLampSkills(lampReward, Collections.emptySet()),
+          is(Set.of(Skill.HERBLORE)));
+
+      Player copy = player.copy();
+
+      copy.setQuestPriority(herblore, QuestPriority.NORMAL);
+
+      assertThat(copy.getOptimalLampSkills(lampReward, Collections.emptySet()),
+          is(Set.of(Skill.ATTACK)));
+      assertThat(player.getOptimalLampSkills(lampReward, Collections.emptySet()),
+          is(Set.of(Skill.HERBLORE)));
+    }
+  }
+
+  @Nested
+  class GetRemainingSkillRequirements {
+
+    @Test
+    void shouldMergeHighestUnmetLevelFromIncompleteQuestRequirements() {
+      Quest attack = createSkillQuest(0, Skill.ATTACK, 20);
+      Quest herblore = createSkillQuest(1, Skill.HERBLORE, 10);
+      Quest quest = new Quest.Builder(2).withRequirements(new QuestRequirements.Builder()
+          .withQuests(Set.of(new QuestRequirement.Builder(attack).build(),
+              new QuestRequirement.Builder(herblore).build()))
+          .withSkills(Set.of(new SkillRequirement.Builder(Skill.ATTACK, 10).build(),
+              new SkillRequirement.Builder(Skill.PRAYER, 5).build())).build()).build();
+      Player player = new Player.Builder().withQuests(Set.of(attack, herblore, quest))
+          .withSkillXps(Map.of(Skill.PRAYER, Skill.PRAYER.getXpAtLevel(5))).build();
+
+      player.setQuestStatus(herblore, QuestStatus.COMPLETED);
+
+      int[] levels = player.getRemainingSkillLevels(quest, true);
+
+      assertThat(levels[Skill.ATTACK.ordinal()], is(20));
+      assertThat(levels[Skill.HERBLORE.ordinal()], is(0));
+      assertThat(levels[Skill.PRAYER.ordinal()], is(0));
+      assertThat(player.getRemainingSkillRequirements(quest, true),
+          is(Set.of(new SkillRequirement.Builder(Skill.ATTACK, 20).build())));
+      assertThat(player.getRemainingSkillRequirements(quest, false),
+          is(Set.of(new SkillRequirement.Builder(Skill.ATTACK, 10).build())));
+    }
+
+    @Test
+    void shouldIgnoreCompletedQuestRequirementsOnceLevelsAreMet() {
+      Quest attack = createSkillQuest(0, Skill.ATTACK, 20);
+      Quest quest = new Quest.Builder(1).withRequirements(new QuestRequirements.Builder()
+          .withQuests(Set.of(new QuestRequirement.Builder(attack).build()))
+          .withSkills(Set.of(new SkillRequirement.Builder(Skill.ATTACK, 10).build())).build())
+          .build();
+      Player player = new Player.Builder().withQuests(Set.of(attack, quest)).build();
+
+      player.setQuestStatus(attack, QuestStatus.COMPLETED);
+
+      assertThat(player.getRemainingSkillLevels(quest, true)[Skill.ATTACK.ordinal()], is(10));
+
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(15));
+
+      assertThat(player.getRemainingSkillLevels(quest, true)[Skill.ATTACK.ordinal()], is(0));
+
+      Player copy = player.copy();
+
+      copy.setQuestStatus(attack, QuestStatus.NOT_STARTED);
+
+      assertThat(copy.getRemainingSkillLevels(quest, true)[Skill.ATTACK.ordinal()], is(20));
+      assertThat(player.getRemainingSkillLevels(quest, true)[Skill.ATTACK.ordinal()], is(0));
+    }
+
+    @Test
+    void shouldIgnoreRequirementsWhichDoNotApply() {
+      Quest quest = new Quest.Builder(0).withRequirements(new QuestRequirements.Builder()
+          .withSkills(Set.of(new SkillRequirement.Builder(Skill.ATTACK, 10).build(),
+              new SkillRequirement.Builder(Skill.ATTACK, 30).withIronman(true).build()))
+          .build()).build();
+      Player player = new Player.Builder().withQuests(Set.of(quest)).build();
+      Player ironman = new Player.Builder().withIronman(true).withQuests(Set.of(quest)).build();
+
+      assertThat(player.getRemainingSkillLevels(quest, false)[Skill.ATTACK.ordinal()], is(10));
+      assertThat(ironman.getRemainingSkillLevels(quest, false)[Skill.ATTACK.ordinal()], is(30));
+      assertThat(ironman.getTotalRemainingSkillRequirements(quest, false),
+          is(Skill.ATTACK.getXpAtLevel(30)));
+    }
+
+    @Test
+    void shouldKeepOrderOfQuestRequirements() {
+      Quest quest = new Quest.Builder(0).withRequirements(new QuestRequirements.Builder()
+          .withSkills(new LinkedHashSet<>(List.of(new SkillRequirement.Builder(Skill.WOODCUTTING, 5)
+              .build(), new SkillRequirement.Builder(Skill.AGILITY, 5).build()))).build()).build();
+      Player player = new Player.Builder().withQuests(Set.of(quest)).build();
+
+      assertThat(player.getRemainingSkillRequirements(quest, false),
+          contains(new SkillRequirement.Builder(Skill.WOODCUTTING, 5).build(),
+              new SkillRequirement.Builder(Skill.AGILITY, 5).build()));
+    }
+  }
+
+  @Nested
+  class GetLevel {
+
+    @Test
+    void shouldUpdateLevelWhenXpIsAdded() {
+      Player player = new Player.Builder().build();
+
+      assertThat(player.getLevel(Skill.ATTACK), is(1));
+
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(50));
+
+      assertThat(player.getLevel(Skill.ATTACK), is(50));
+      assertThat(player.getXp(Skill.ATTACK), is(Skill.ATTACK.getXpAtLevel(50)));
+    }
+
+    @Test
+    void shouldNotUpdateLevelOfCopyWhenXpIsAdded() {
+      Player player = new Player.Builder().build();
+      Player copy = player.copy();
+
+      assertThat(copy.getLevel(Skill.ATTACK), is(1));
+
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(50));
+
+      assertThat(player.getLevel(Skill.ATTACK), is(50));
+      assertThat(copy.getLevel(Skill.ATTACK), is(1));
+    }
+  }
+
+  @Nested
+  class GetTotalAndCombatLevel {
+
+    @Test
+    void shouldUpdateWhenXpIsAdded() {
+      Player player = new Player.Builder().build();
+      int totalLevel = player.getTotalLevel();
+      double combatLevel = player.getCombatLevel();
+
+      player.addSkillXP(Skill.ATTACK, Skill.ATTACK.getXpAtLevel(50));
+      player.addSkillXP(Skill.STRENGTH, Skill.STRENGTH.getXpAtLevel(50));
+
+      assertThat(player.getTotalLevel(), is(totalLevel + 98));
+      assertThat(player.getCombatLevel(), greaterThan(combatLevel));
+      assertThat(player.getTotalLevel(),
+          is(player.getLevels().values().stream().mapToInt(Integer::intValue).sum()));
+      assertThat(player.getCombatLevel(), is(new Player.Builder().withSkillXps(
+          player.getSkillXps()).build().getCombatLevel()));
+    }
+
+    @Test
+    void shouldNotUpdateCombatLevelForNonCombatSkills() {
+      Player player = new Player.Builder().build();
+      double combatLevel = player.getCombatLevel();
+
+      player.addSkillXP(Skill.HERBLORE, Skill.HERBLORE.getXpAtLevel(50));
+
+      assertThat(player.getCombatLevel(), is(combatLevel));
+    }
+
+    @Test
+    void shouldNotUpdateCopyWhenXpIsAdded() {
+      Player player = new Player.Builder().build();
+      Player copy = player.copy();
+
+      player.addSkillXP(Skill.DEFENCE, Skill.DEFENCE.getXpAtLevel(50));
+
+      assertThat(copy.getTotalLevel(), is(player.getTotalLevel() - 49));
+      assertThat(copy.getCombatLevel(), is(new Player.Builder().build().getCombatLevel()));
+    }
+  }
+
+  @Nested
+  class GetVersion {
+
+    @Test
+    void shouldIncrementWhenStateChanges() {
+      Quest quest = new Quest.Builder(0).build();
+      Player player = new Player.Builder().withQuests(Set.of(quest)).build();
+      long version = player.getVersion();
+
+      player.addSkillXP(Skill.ATTACK, 100);
+
+      assertThat(player.getVersion(), greaterThan(version));
+
+      version = player.getVersion();
+      player.setQuestStatus(quest, QuestStatus.COMPLETED);
+
+      assertThat(player.getVersion(), greaterThan(version));
+
+      version = player.getVersion();
+      player.setQuestPriority(quest, QuestPriority.HIGH);
+
+      assertThat(player.getVersion(), greaterThan(version));
+    }
+  }
+
+  @Nested
+  class Load {
+
+    private final PlayerLoadExecutor executor = new PlayerLoadExecutor();
+
+    @AfterEach
+    void tearDown() {
+      executor.destroy();
+    }
+
+    @Test
+    void shouldLoadHiscoresAndRuneMetricsConcurrently() {
+      Quest quest = new Quest.Builder(0).withTitle("Cook's Assistant").build();
+      Player player = new Player.Builder().withName("username").withQuests(Set.of(quest))
+          .build();
+      CountDownLatch loading = new CountDownLatch(2);
+      HiscoreService hiscoreService = mock(HiscoreService.class);
+      RuneMetricsService runeMetricsService = mock(RuneMetricsService.class);
+
+      when(hiscoreService.load("username")).then(invocation -> {
+        loading.countDown();
+        loading.await(5, TimeUnit.SECONDS);
+        return Map.of(Skill.ATTACK, 13363d);
+      });
+      when(runeMetricsService.load("username")).then(invocation -> {
+        loading.countDown();
+        loading.await(5, TimeUnit.SECONDS);
+        return Set.of(new RuneMetricsQuest.Builder().withTitle("cook's assistant")
+            .withStatus(RuneMetricsQuest.Status.COMPLETED).build());
+      });
+
+      player.load(hiscoreService, runeMetricsService, executor, Duration.ofSeconds(10));
+
+      assertThat(loading.getCount(), is(0L));
+      assertThat(player.getLevel(Skill.ATTACK), is(30));
+      assertThat(player.getQuestStatus(quest), is(QuestStatus.COMPLETED));
+    }
+
+    @Test
+    void shouldLoadCompletedDataWhenDeadlinePasses() throws InterruptedException {
+      Quest quest = new Quest.Builder(0).withTitle("Cook's Assistant").build();
+      Player player = new Player.Builder().withName("username").withQuests(Set.of(quest))
+          .build();
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch interrupted = new CountDownLatch(1);
+      HiscoreService hiscoreService = mock(HiscoreService.class);
+      RuneMetricsService runeMetricsService = mock(RuneMetricsService.class);
+
+      when(hiscoreService.load("username")).thenReturn(Map.of(Skill.ATTACK, 13363d));
+      when(runeMetricsService.load("username")).then(invocation -> {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+        return Set.of(new RuneMetricsQuest.Builder().withTitle("Cook's Assistant")
+            .withStatus(RuneMetricsQuest.Status.COMPLETED).build());
+      });
+
+      try {
+        player.load(hiscoreService, runeMetricsService, executor, Duration.ofMillis(100));
+      } finally {
+        release.countDown();
+      }
+
+      assertThat(player.getLevel(Skill.ATTACK), is(30));
+      assertThat(player.getQuestStatus(quest), is(QuestStatus.NOT_STARTED));
+      assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    void shouldLoadDataOnCallingThreadWhenRejected() {
+      Quest quest = new Quest.Builder(0).withTitle("Cook's Assistant").build();
+      Player player = new Player.Builder().withName("username").withQuests(Set.of(quest))
+          .build();
+      HiscoreService hiscoreService = mock(HiscoreService.class);
+      RuneMetricsService runeMetricsService = mock(RuneMetricsService.class);
+      Thread caller = Thread.currentThread();
+
+      when(hiscoreService.load("username")).then(invocation -> {
+        assertThat(Thread.currentThread(), is(caller));
+        return Map.of(Skill.ATTACK, 13363d);
+      });
+      when(runeMetricsService.load("username")).thenReturn(Set.of(
+          new RuneMetricsQuest.Builder().withTitle("Cook's Assistant")
+              .withStatus(RuneMetricsQuest.Status.COMPLETED).build()));
+
+      executor.destroy();
+
+      player.load(hiscoreService, runeMetricsService, executor, Duration.ofSeconds(10));
+
+      assertThat(player.getLevel(Skill.ATTACK), is(30));
+      assertThat(player.getQuestStatus(quest), is(QuestStatus.COMPLETED));
+    }
   }
 
   @Nested
@@ -142,7 +525,10 @@ public class PlayerTest {
     void shouldVerifyEqualsAndHashCode() {
       EqualsVerifier.forClass(Player.class)
           .withPrefabValues(Quest.class, new Quest.Builder(0).build(), new Quest.Builder(1).build())
-          .verify();
+          .withIgnoredFields("version", "questGraph", "previousLampSkills", "skillXpsShared",
+              "levels", "totalLevel", "combatLevel", "skillRequirementTargets",
+              "unmetCompletedQuests")
+          .suppress(Warning.NONFINAL_FIELDS).verify();
     }
   }
 }
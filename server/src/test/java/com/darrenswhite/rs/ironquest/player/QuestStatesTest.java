@@ -0,0 +1,189 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.QuestGraph;
+import com.darrenswhite.rs.ironquest.quest.reward.QuestRewards;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class QuestStatesTest {
+
+  static List<Quest> createQuests(int count) {
+    return IntStream.range(0, count).mapToObj(
+        id -> new Quest.Builder(id).withRewards(new QuestRewards.Builder().withQuestPoints(id + 1)
+            .build()).build()).collect(Collectors.toList());
+  }
+
+  static QuestStates createQuestStates(List<Quest> quests) {
+    QuestGraph questGraph = new QuestGraph(quests);
+
+    return new QuestStates(questGraph, Set.copyOf(quests));
+  }
+
+  @Nested
+  class SetStatus {
+
+    @Test
+    void shouldSetStatus() {
+      List<Quest> quests = createQuests(3);
+      QuestStates questStates = createQuestStates(quests);
+
+      questStates.setStatus(1, QuestStatus.IN_PROGRESS);
+      questStates.setStatus(2, QuestStatus.COMPLETED);
+
+      assertThat(questStates.getStatus(0), is(QuestStatus.NOT_STARTED));
+      assertThat(questStates.getStatus(1), is(QuestStatus.IN_PROGRESS));
+      assertThat(questStates.getStatus(2), is(QuestStatus.COMPLETED));
+      assertThat(questStates.isCompleted(2), is(true));
+    }
+
+    @Test
+    void shouldMaintainQuestPoints() {
+      List<Quest> quests = createQuests(3);
+      QuestStates questStates = createQuestStates(quests);
+
+      questStates.setStatus(0, QuestStatus.COMPLETED);
+      questStates.setStatus(2, QuestStatus.COMPLETED);
+      questStates.setStatus(2, QuestStatus.COMPLETED);
+
+      assertThat(questStates.getQuestPoints(), is(4));
+
+      questStates.setStatus(0, QuestStatus.IN_PROGRESS);
+
+      assertThat(questStates.getQuestPoints(), is(3));
+      assertThat(questStates.getCompletedQuests(), contains(quests.get(2)));
+      assertThat(questStates.getIncompleteQuests(), contains(quests.get(0), quests.get(1)));
+    }
+
+    @Test
+    void shouldThrowExceptionForUnknownQuest() {
+      QuestStates questStates = createQuestStates(createQuests(3));
+
+      assertThrows(IllegalArgumentException.class,
+          () -> questStates.setStatus(-1, QuestStatus.COMPLETED));
+      assertThat(questStates.getStatus(-1), nullValue());
+    }
+  }
+
+  @Nested
+  class SetPriority {
+
+    @Test
+    void shouldOnlyPrioritiseIncompleteQuests() {
+      List<Quest> quests = createQuests(3);
+      QuestStates questStates = createQuestStates(quests);
+
+      questStates.setPriority(0, QuestPriority.HIGH);
+      questStates.setPriority(1, QuestPriority.MAXIMUM);
+      questStates.setPriority(2, QuestPriority.LOW);
+
+      assertThat(questStates.getPrioritisedQuests(), contains(quests.get(0), quests.get(1)));
+
+      questStates.setStatus(1, QuestStatus.COMPLETED);
+
+      assertThat(questStates.getPrioritisedQuests(), contains(quests.get(0)));
+      assertThat(questStates.getPriority(1), is(QuestPriority.MAXIMUM));
+
+      questStates.setStatus(1, QuestStatus.NOT_STARTED);
+      questStates.setPriority(0, QuestPriority.NORMAL);
+
+      assertThat(questStates.getPrioritisedQuests(), contains(quests.get(1)));
+    }
+  }
+
+  @Nested
+  class GetQuests {
+
+    @Test
+    void shouldReturnQuestsInIndexOrder() {
+      List<Quest> quests = createQuests(150);
+      QuestStates questStates = createQuestStates(quests);
+
+      assertThat(new ArrayList<>(questStates.getQuests()), is(quests));
+      assertThat(questStates.getQuests(), hasSize(150));
+      assertThat(questStates.getCompletedQuests(), is(empty()));
+    }
+
+    @Test
+    void shouldOnlyContainQuestsInStates() {
+      List<Quest> quests = createQuests(3);
+      QuestStates questStates = new QuestStates(new QuestGraph(quests),
+          Set.of(quests.get(0), quests.get(2)));
+
+      assertThat(questStates.getQuests(), contains(quests.get(0), quests.get(2)));
+      assertThat(questStates.getIncompleteQuests(), hasSize(2));
+      assertThat(questStates.getQuests().contains(quests.get(1)), is(false));
+      assertThat(questStates.getQuests().contains(new Quest.Builder(99).build()), is(false));
+    }
+
+    @Test
+    void shouldNotChangeViewWhenModified() {
+      List<Quest> quests = createQuests(3);
+      QuestStates questStates = createQuestStates(quests);
+      Set<Quest> incomplete = questStates.getIncompleteQuests();
+
+      questStates.setStatus(0, QuestStatus.COMPLETED);
+
+      assertThat(incomplete, contains(quests.toArray()));
+      assertThat(questStates.getIncompleteQuests(), contains(quests.get(1), quests.get(2)));
+    }
+
+    @Test
+    void shouldReturnUnmodifiableView() {
+      List<Quest> quests = createQuests(3);
+      QuestStates questStates = createQuestStates(quests);
+
+      assertThrows(UnsupportedOperationException.class,
+          () -> questStates.getQuests().add(quests.get(0)));
+      assertThrows(UnsupportedOperationException.class,
+          () -> questStates.getIncompleteQuests().iterator().remove());
+    }
+  }
+
+  @Nested
+  class Copy {
+
+    @Test
+    void shouldNotModifyOriginalWhenCopyIsModified() {
+      List<Quest> quests = createQuests(3);
+      QuestStates original = createQuestStates(quests);
+      QuestStates copy = original.copy();
+
+      copy.setStatus(0, QuestStatus.COMPLETED);
+      copy.setPriority(1, QuestPriority.HIGH);
+
+      assertThat(original.getStatus(0), is(QuestStatus.NOT_STARTED));
+      assertThat(original.getQuestPoints(), is(0));
+      assertThat(original.getPrioritisedQuests(), is(empty()));
+      assertThat(copy.getStatus(0), is(QuestStatus.COMPLETED));
+      assertThat(copy.getQuestPoints(), is(1));
+      assertThat(copy.getPrioritisedQuests(), contains(quests.get(1)));
+    }
+
+    @Test
+    void shouldNotModifyCopyWhenOriginalIsModified() {
+      List<Quest> quests = createQuests(3);
+      QuestStates original = createQuestStates(quests);
+      QuestStates copy = original.copy();
+
+      original.setStatus(2, QuestStatus.COMPLETED);
+
+      assertThat(copy.getStatus(2), is(QuestStatus.NOT_STARTED));
+      assertThat(copy.getCompletedQuests(), is(empty()));
+      assertThat(original.getCompletedQuests(), contains(quests.get(2)));
+    }
+  }
+}
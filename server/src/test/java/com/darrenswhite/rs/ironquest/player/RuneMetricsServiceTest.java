@@ -1,7 +1,9 @@
 package com.darrenswhite.rs.ironquest.player;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -53,5 +55,43 @@ class RuneMetricsServiceTest {
       assertThat(loadedQuests, hasSize(3));
       assertThat(loadedQuests, containsInAnyOrder(quest1, quest2, quest3));
     }
+
+    @Test
+    void shouldIgnoreUnknownFields() {
+      RuneMetricsService service = new RuneMetricsService(
+          getResourceUrl("runemetrics-unknown-fields.json"), OBJECT_MAPPER);
+
+      Set<RuneMetricsQuest> loadedQuests = service.load("user");
+
+      assertThat(loadedQuests, contains(
+          new RuneMetricsQuest.Builder().withTitle("Title 0").withStatus(Status.COMPLETED)
+              .withDifficulty(1).withMembers(true).withQuestPoints(10).withUserEligible(true)
+              .build()));
+    }
+
+    @Test
+    void shouldDefaultNullValues() {
+      RuneMetricsService service = new RuneMetricsService(
+          getResourceUrl("runemetrics-null-values.json"), OBJECT_MAPPER);
+
+      Set<RuneMetricsQuest> loadedQuests = service.load("user");
+
+      assertThat(loadedQuests, contains(
+          new RuneMetricsQuest.Builder().withTitle("Title 0").withStatus(Status.COMPLETED)
+              .withQuestPoints(10).build()));
+    }
+
+    @Test
+    void shouldReturnEmptyForMalformedQuests() {
+      RuneMetricsService service = new RuneMetricsService(
+          getResourceUrl("runemetrics-malformed.json"), OBJECT_MAPPER);
+
+      assertThat(service.load("user"), empty());
+    }
+  }
+
+  static String getResourceUrl(String name) {
+    return Objects.requireNonNull(RuneMetricsServiceTest.class.getClassLoader().getResource(name))
+        .toString();
   }
 }
@@ -0,0 +1,73 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class SkillMaskTest {
+
+  @Nested
+  class Of {
+
+    @ParameterizedTest
+    @EnumSource(Skill.class)
+    void shouldContainOnlySkill(Skill skill) {
+      int mask = SkillMask.of(skill);
+
+      assertThat(SkillMask.size(mask), is(1));
+      assertThat(SkillMask.contains(mask, skill), is(true));
+    }
+
+    @Test
+    void shouldContainEachSkill() {
+      int mask = SkillMask.of(Set.of(Skill.ATTACK, Skill.WOODCUTTING));
+
+      assertThat(SkillMask.size(mask), is(2));
+      assertThat(SkillMask.contains(mask, Skill.ATTACK), is(true));
+      assertThat(SkillMask.contains(mask, Skill.WOODCUTTING), is(true));
+      assertThat(SkillMask.contains(mask, Skill.DEFENCE), is(false));
+    }
+
+    @Test
+    void shouldReturnNoneForNoSkills() {
+      assertThat(SkillMask.of(Set.of()), is(SkillMask.NONE));
+    }
+  }
+
+  @Nested
+  class Contains {
+
+    @Test
+    void shouldFindMaskInMasks() {
+      int attack = SkillMask.of(Skill.ATTACK);
+      int defence = SkillMask.of(Skill.DEFENCE);
+      int both = attack | defence;
+
+      assertThat(SkillMask.contains(new int[]{attack, both}, both), is(true));
+      assertThat(SkillMask.contains(new int[]{attack, both}, defence), is(false));
+      assertThat(SkillMask.contains(new int[0], attack), is(false));
+    }
+  }
+
+  @Nested
+  class ToSet {
+
+    @Test
+    void shouldReturnAllSkills() {
+      Set<Skill> skills = EnumSet.allOf(Skill.class);
+
+      assertThat(SkillMask.toSet(SkillMask.of(skills)), is(skills));
+    }
+
+    @Test
+    void shouldReturnEmptySetForNone() {
+      assertThat(SkillMask.toSet(SkillMask.NONE), is(Set.of()));
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.darrenswhite.rs.ironquest.quest.Quest;
+import com.darrenswhite.rs.ironquest.quest.QuestGraph;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SkillRequirementTargetsTest {
+
+  static final List<Quest> QUESTS = List.of(PlayerTest.createSkillQuest(0, Skill.HERBLORE, 10),
+      PlayerTest.createSkillQuest(1, Skill.HERBLORE, 30),
+      PlayerTest.createSkillQuest(2, Skill.HERBLORE, 20));
+
+  static void setStatus(QuestGraph questGraph, QuestStates states, SkillRequirementTargets targets,
+      int questId, QuestStatus status) {
+    int index = questGraph.indexOf(questId);
+
+    states.setStatus(index, status);
+    targets.update(states, index);
+  }
+
+  @Nested
+  class GetLevel {
+
+    @Test
+    void shouldReturnHighestLevelForIncompleteQuests() {
+      QuestGraph questGraph = new QuestGraph(QUESTS);
+      QuestStates states = new QuestStates(questGraph, Set.copyOf(QUESTS));
+      SkillRequirementTargets targets = new SkillRequirementTargets(questGraph, false, false,
+          states);
+
+      assertThat(targets.getLevel(Skill.HERBLORE, false), is(30));
+      assertThat(targets.getLevel(Skill.ATTACK, false), is(0));
+
+      setStatus(questGraph, states, targets, 1, QuestStatus.COMPLETED);
+
+      assertThat(targets.getLevel(Skill.HERBLORE, false), is(20));
+
+      setStatus(questGraph, states, targets, 2, QuestStatus.COMPLETED);
+      setStatus(questGraph, states, targets, 0, QuestStatus.COMPLETED);
+
+      assertThat(targets.getLevel(Skill.HERBLORE, false), is(0));
+
+      setStatus(questGraph, states, targets, 1, QuestStatus.NOT_STARTED);
+
+      assertThat(targets.getLevel(Skill.HERBLORE, false), is(30));
+    }
+
+    @Test
+    void shouldReturnHighestLevelForPrioritisedQuests() {
+      QuestGraph questGraph = new QuestGraph(QUESTS);
+      QuestStates states = new QuestStates(questGraph, Set.copyOf(QUESTS));
+      SkillRequirementTargets targets = new SkillRequirementTargets(questGraph, false, false,
+          states);
+      int index = questGraph.indexOf(0);
+
+      assertThat(targets.getLevel(Skill.HERBLORE, true), is(0));
+
+      states.setPriority(index, QuestPriority.HIGH);
+      targets.update(states, index);
+
+      assertThat(targets.getLevel(Skill.HERBLORE, true), is(10));
+
+      setStatus(questGraph, states, targets, 0, QuestStatus.COMPLETED);
+
+      assertThat(targets.getLevel(Skill.HERBLORE, true), is(0));
+    }
+  }
+
+  @Nested
+  class Copy {
+
+    @Test
+    void shouldNotModifyOriginalWhenCopyIsModified() {
+      QuestGraph questGraph = new QuestGraph(QUESTS);
+      QuestStates states = new QuestStates(questGraph, Set.copyOf(QUESTS));
+      SkillRequirementTargets original = new SkillRequirementTargets(questGraph, false, false,
+          states);
+      SkillRequirementTargets copy = original.copy();
+
+      setStatus(questGraph, states.copy(), copy, 1, QuestStatus.COMPLETED);
+
+      assertThat(original.getLevel(Skill.HERBLORE, false), is(30));
+      assertThat(copy.getLevel(Skill.HERBLORE, false), is(20));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class SkillTest {
+
+  @Nested
+  class GetLevelAt {
+
+    @ParameterizedTest
+    @EnumSource(Skill.class)
+    void shouldReturnLevelAtEachXpBoundary(Skill skill) {
+      for (int level = 2; level <= skill.getMaxLevel(); level++) {
+        double xp = skill.getXpAtLevel(level);
+
+        assertThat(skill.getLevelAt(xp), is(level));
+        assertThat(skill.getLevelAt(xp - 1), is(level - 1));
+      }
+    }
+
+    @Test
+    void shouldReturnMinimumLevelForNoXp() {
+      assertThat(Skill.ATTACK.getLevelAt(0), is(1));
+      assertThat(Skill.INVENTION.getLevelAt(0), is(1));
+    }
+
+    @Test
+    void shouldNotExceedMaximumLevel() {
+      assertThat(Skill.ATTACK.getLevelAt(Skill.MAX_XP), is(99));
+      assertThat(Skill.DUNGEONEERING.getLevelAt(Skill.MAX_XP), is(120));
+      assertThat(Skill.INVENTION.getLevelAt(Skill.MAX_XP), is(120));
+    }
+
+    @Test
+    void shouldThrowExceptionForXpOutOfRange() {
+      assertThrows(IllegalArgumentException.class, () -> Skill.ATTACK.getLevelAt(-1));
+      assertThrows(IllegalArgumentException.class,
+          () -> Skill.ATTACK.getLevelAt(Skill.MAX_XP + 1));
+    }
+  }
+
+  @Nested
+  class GetById {
+
+    @ParameterizedTest
+    @EnumSource(Skill.class)
+    void shouldReturnSkillWithId(Skill skill) {
+      assertThat(Skill.getById(skill.getId()), is(skill));
+    }
+
+    @Test
+    void shouldReturnNullForUnknownId() {
+      assertThat(Skill.getById(0), nullValue());
+      assertThat(Skill.getById(-1), nullValue());
+      assertThat(Skill.getById(1000), nullValue());
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.darrenswhite.rs.ironquest.player;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class UpstreamClientTest {
+
+  static HttpServer server;
+
+  @BeforeAll
+  static void beforeAll() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/ok", exchange -> {
+      byte[] body = "body".getBytes(StandardCharsets.UTF_8);
+
+      exchange.sendResponseHeaders(200, body.length);
+
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.createContext("/missing", exchange -> {
+      exchange.sendResponseHeaders(404, -1);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterAll
+  static void afterAll() {
+    server.stop(0);
+  }
+
+  static URI createUri(String path) {
+    return URI.create(
+        "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+            + path);
+  }
+
+  static String read(InputStream in) throws IOException {
+    try (InputStream body = in) {
+      return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  @Nested
+  class Open {
+
+    @Test
+    void shouldStreamResponseBody() throws IOException {
+      UpstreamClient client = new UpstreamClient();
+
+      assertThat(read(client.open(createUri("/ok"))), is("body"));
+    }
+
+    @Test
+    void shouldThrowWhenResponseIsNotSuccessful() {
+      UpstreamClient client = new UpstreamClient();
+
+      assertThrows(IOException.class, () -> client.open(createUri("/missing")));
+    }
+
+    @Test
+    void shouldReleaseHostPermitWhenClosed() throws IOException {
+      UpstreamClient client = new UpstreamClient(Duration.ofSeconds(5), Duration.ofSeconds(5), 1);
+
+      for (int i = 0; i < 3; i++) {
+        assertThat(read(client.open(createUri("/ok"))), is("body"));
+      }
+    }
+
+    @Test
+    void shouldReleaseHostPermitWhenResponseIsNotSuccessful() throws IOException {
+      UpstreamClient client = new UpstreamClient(Duration.ofSeconds(5), Duration.ofSeconds(5), 1);
+
+      assertThrows(IOException.class, () -> client.open(createUri("/missing")));
+      assertThat(read(client.open(createUri("/ok"))), is("body"));
+    }
+
+    @Test
+    void shouldBoundConcurrentRequestsToHost() throws IOException {
+      UpstreamClient client = new UpstreamClient(Duration.ofSeconds(5), Duration.ofMillis(100), 1);
+
+      InputStream first = client.open(createUri("/ok"));
+
+      try {
+        assertThrows(IOException.class, () -> client.open(createUri("/ok")));
+      } finally {
+        first.close();
+      }
+
+      assertThat(read(client.open(createUri("/ok"))), is("body"));
+    }
+
+    @Test
+    void shouldOpenNonHttpUriDirectly() throws IOException {
+      URI uri = URI.create(Objects
+          .requireNonNull(getClass().getClassLoader().getResource("hiscores.csv")).toString());
+
+      assertThat(read(new UpstreamClient().open(uri)).isEmpty(), is(false));
+    }
+  }
+}
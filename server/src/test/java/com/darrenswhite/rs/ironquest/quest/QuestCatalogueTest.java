@@ -0,0 +1,191 @@
+package com.darrenswhite.rs.ironquest.quest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirements;
+import com.darrenswhite.rs.ironquest.quest.reward.QuestRewards;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+class QuestCatalogueTest {
+
+  static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+      .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+      .enable(SerializationFeature.INDENT_OUTPUT);
+  static final String QUESTS_JSON = "quests.json";
+
+  static Set<Quest> quests;
+
+  @BeforeAll
+  static void beforeAll() throws IOException {
+    try (InputStream in = Objects.requireNonNull(
+        QuestCatalogueTest.class.getClassLoader().getResourceAsStream(QUESTS_JSON))) {
+      quests = OBJECT_MAPPER.readValue(in, new TypeReference<LinkedHashSet<Quest>>() {
+      });
+    }
+  }
+
+  static byte[] write(Set<Quest> quests) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    QuestCatalogue.write(quests, out);
+
+    return out.toByteArray();
+  }
+
+  static ByteArrayResource createResource(byte[] catalogue) {
+    return new ByteArrayResource(catalogue) {
+      @Override
+      public String getFilename() {
+        return "quests" + QuestCatalogue.EXTENSION;
+      }
+    };
+  }
+
+  @Nested
+  class Read {
+
+    @Test
+    void shouldReadSameQuestsAsJson() throws IOException {
+      Set<Quest> read = QuestCatalogue.read(ByteBuffer.wrap(write(quests)));
+
+      assertThat(OBJECT_MAPPER.writeValueAsString(read),
+          is(OBJECT_MAPPER.writeValueAsString(quests)));
+      assertThat(read.stream().map(Quest::getId).toArray(),
+          is(quests.stream().map(Quest::getId).toArray()));
+    }
+
+    @Test
+    void shouldResolveQuestRequirementsToSameInstances() throws IOException {
+      Set<Quest> read = QuestCatalogue.read(ByteBuffer.wrap(write(quests)));
+
+      for (Quest quest : read) {
+        quest.getRequirements().getQuests().forEach(
+            questRequirement -> assertThat(read.stream()
+                .anyMatch(q -> q == questRequirement.getQuest()), is(true)));
+      }
+    }
+
+    @Test
+    void shouldPreserveAbsentRequirementsAndRewards() throws IOException {
+      Quest quest = new Quest.Builder(0).withTitle("Title").build();
+
+      Quest read = QuestCatalogue.read(ByteBuffer.wrap(write(Set.of(quest)))).iterator().next();
+
+      assertThat(read.getRequirements() == QuestRequirements.NONE, is(true));
+      assertThat(read.getRewards() == QuestRewards.NONE, is(true));
+      assertThat(read.getDisplayName(), is((String) null));
+      assertThat(read.getAccess(), is((QuestAccess) null));
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidCatalogue() {
+      assertThrows(IOException.class,
+          () -> QuestCatalogue.read(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6})));
+    }
+
+    @Test
+    void shouldThrowExceptionForUnsupportedVersion() throws IOException {
+      byte[] catalogue = write(quests);
+
+      catalogue[5]++;
+
+      assertThrows(IOException.class, () -> QuestCatalogue.read(ByteBuffer.wrap(catalogue)));
+    }
+
+    @Test
+    void shouldThrowExceptionForTruncatedCatalogue() throws IOException {
+      byte[] catalogue = write(quests);
+
+      assertThrows(IOException.class, () -> QuestCatalogue
+          .read(ByteBuffer.wrap(Arrays.copyOf(catalogue, catalogue.length / 2))));
+    }
+
+    @Test
+    void shouldThrowExceptionForUnknownQuestRequirement() throws IOException {
+      Quest quest = quests.stream().filter(q -> !q.getRequirements().getQuests().isEmpty())
+          .findFirst().orElseThrow();
+
+      assertThrows(IOException.class,
+          () -> QuestCatalogue.read(ByteBuffer.wrap(write(Set.of(quest)))));
+    }
+  }
+
+  @Nested
+  class Load {
+
+    @Test
+    void shouldLoadMemoryMappedCatalogue(@TempDir Path directory) throws IOException {
+      Path catalogue = directory.resolve("quests.bin");
+
+      Files.write(catalogue, write(quests));
+
+      assertThat(QuestCatalogue.load(new FileSystemResource(catalogue)),
+          contains(quests.toArray()));
+    }
+
+    @Test
+    void shouldLoadCatalogueFromStream() throws IOException {
+      assertThat(QuestCatalogue.load(createResource(write(quests))), contains(quests.toArray()));
+    }
+  }
+
+  @Nested
+  class IsCatalogue {
+
+    @Test
+    void shouldMatchCatalogueExtension() {
+      assertThat(QuestCatalogue.isCatalogue(new FileSystemResource("quests.bin")), is(true));
+      assertThat(QuestCatalogue.isCatalogue(new FileSystemResource("quests.json")), is(false));
+      assertThat(QuestCatalogue.isCatalogue(new ByteArrayResource(new byte[0])), is(false));
+    }
+  }
+
+  @Nested
+  class Main {
+
+    @Test
+    void shouldGenerateCatalogueFromJson(@TempDir Path directory)
+        throws IOException, URISyntaxException {
+      Path json = Path.of(Objects
+          .requireNonNull(getClass().getClassLoader().getResource(QUESTS_JSON)).toURI());
+      Path catalogue = directory.resolve("generated").resolve("quests.bin");
+
+      QuestCatalogue.main(new String[]{json.toString(), catalogue.toString()});
+
+      QuestRepository questRepository = new QuestRepository(new FileSystemResource(catalogue),
+          OBJECT_MAPPER);
+
+      assertThat(OBJECT_MAPPER.writeValueAsString(questRepository.getQuests()),
+          is(OBJECT_MAPPER.writeValueAsString(quests)));
+    }
+
+    @Test
+    void shouldThrowExceptionForMissingArguments() {
+      assertThrows(IllegalArgumentException.class,
+          () -> QuestCatalogue.main(new String[]{"quests.json"}));
+    }
+  }
+}
@@ -0,0 +1,227 @@
+package com.darrenswhite.rs.ironquest.quest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
+import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirements;
+import com.darrenswhite.rs.ironquest.quest.requirement.SkillRequirement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class QuestGraphTest {
+
+  private static Quest createQuest(int id, QuestRequirement... questRequirements) {
+    return new Quest.Builder().withId(id).withRequirements(
+        new QuestRequirements.Builder().withQuests(Set.of(questRequirements)).build()).build();
+  }
+
+  private static Quest createQuest(int id, Skill skill, int level) {
+    return new Quest.Builder().withId(id).withRequirements(new QuestRequirements.Builder()
+        .withSkills(Set.of(new SkillRequirement.Builder(skill, level).build())).build()).build();
+  }
+
+  @Nested
+  class Constructor {
+
+    @Test
+    void shouldSortQuestsInTopologicalOrder() {
+      Quest first = createQuest(0);
+      Quest second = createQuest(1, new QuestRequirement.Builder(first).build());
+      Quest third = createQuest(2, new QuestRequirement.Builder(second).build());
+
+      QuestGraph questGraph = new QuestGraph(List.of(third, second, first));
+
+      assertThat(questGraph.getQuests(), contains(first, second, third));
+      assertThat(questGraph.indexOf(third), greaterThan(questGraph.indexOf(second)));
+      assertThat(questGraph.indexOf(second), greaterThan(questGraph.indexOf(first)));
+    }
+
+    @Test
+    void shouldIncludeQuestRequirementsNotSpecified() {
+      Quest required = createQuest(0);
+      Quest quest = createQuest(1, new QuestRequirement.Builder(required).build());
+
+      QuestGraph questGraph = new QuestGraph(Set.of(quest));
+
+      assertThat(questGraph.getQuests(), contains(required, quest));
+    }
+
+    @Test
+    void shouldThrowExceptionForCyclicQuestRequirements() {
+      Set<QuestRequirement> firstRequirements = new HashSet<>();
+      Quest first = new Quest.Builder().withId(0).withRequirements(
+          new QuestRequirements.Builder().withQuests(firstRequirements).build()).build();
+      Quest second = createQuest(1, new QuestRequirement.Builder(first).build());
+      firstRequirements.add(new QuestRequirement.Builder(second).build());
+
+      assertThrows(IllegalArgumentException.class, () -> new QuestGraph(Set.of(second)));
+    }
+  }
+
+  @Nested
+  class GetQuestRequirements {
+
+    @Test
+    void shouldReturnRecursiveQuestRequirements() {
+      Quest first = createQuest(0);
+      Quest second = createQuest(1, new QuestRequirement.Builder(first).build());
+      Quest third = createQuest(2, new QuestRequirement.Builder(second).build());
+
+      QuestGraph questGraph = new QuestGraph(Set.of(third));
+
+      assertThat(questGraph.getQuests(questGraph.getQuestRequirements(third)),
+          containsInAnyOrder(first, second));
+      assertThat(questGraph.getQuests(questGraph.getQuestRequirements(first)), empty());
+    }
+
+    @Test
+    void shouldReturnUnionOfQuestRequirements() {
+      Quest first = createQuest(0);
+      Quest second = createQuest(1);
+      Quest third = createQuest(2, new QuestRequirement.Builder(first).build());
+      Quest fourth = createQuest(3, new QuestRequirement.Builder(second).build());
+
+      QuestGraph questGraph = new QuestGraph(Set.of(third, fourth));
+
+      assertThat(questGraph.getQuests(questGraph.getQuestRequirements(Set.of(third, fourth))),
+          containsInAnyOrder(first, second));
+    }
+
+    @Test
+    void shouldOnlyReturnApplicableQuestRequirements() {
+      Quest first = createQuest(0);
+      Quest ironman = createQuest(1, new QuestRequirement.Builder(first).build());
+      Quest recommended = createQuest(2);
+      Quest quest = createQuest(3,
+          new QuestRequirement.Builder(ironman).withIronman(true).build(),
+          new QuestRequirement.Builder(recommended).withRecommended(true).build());
+
+      QuestGraph questGraph = new QuestGraph(Set.of(quest));
+
+      assertThat(questGraph.getQuests(questGraph.getQuestRequirements(quest, false, false)),
+          containsInAnyOrder(first));
+      assertThat(questGraph.getQuests(questGraph.getQuestRequirements(quest, true, false)),
+          containsInAnyOrder(first, ironman));
+      assertThat(questGraph.getQuests(questGraph.getQuestRequirements(quest, false, true)),
+          containsInAnyOrder(first, recommended));
+      assertThat(questGraph.getQuests(questGraph.getQuestRequirements(quest, true, true)),
+          containsInAnyOrder(first, ironman, recommended));
+    }
+
+    @Test
+    void shouldThrowExceptionForUnknownQuest() {
+      QuestGraph questGraph = new QuestGraph(Set.of(createQuest(0)));
+
+      assertThrows(IllegalArgumentException.class,
+          () -> questGraph.getQuestRequirements(createQuest(1)));
+    }
+  }
+
+  @Nested
+  class GetSkillRequirements {
+
+    @Test
+    void shouldReturnHighestApplicableSkillRequirementLevel() {
+      Quest quest = new Quest.Builder().withId(0).withRequirements(
+          new QuestRequirements.Builder().withSkills(Set.of(
+              new SkillRequirement.Builder(Skill.HERBLORE, 10).build(),
+              new SkillRequirement.Builder(Skill.HERBLORE, 20).withIronman(true).build()))
+              .build()).build();
+
+      QuestGraph questGraph = new QuestGraph(Set.of(quest));
+
+      assertThat(questGraph.getSkillRequirementLevel(0, Skill.HERBLORE, false, false), is(10));
+      assertThat(questGraph.getSkillRequirementLevel(0, Skill.HERBLORE, true, false), is(20));
+      assertThat(questGraph.getSkillRequirementLevel(0, Skill.ATTACK, true, false), is(0));
+    }
+
+    @Test
+    void shouldOrderQuestsByHighestSkillRequirementLevel() {
+      Quest low = createQuest(0, Skill.HERBLORE, 10);
+      Quest high = createQuest(1, Skill.HERBLORE, 30);
+      Quest none = createQuest(2);
+      Quest middle = createQuest(3, Skill.HERBLORE, 20);
+
+      QuestGraph questGraph = new QuestGraph(Set.of(low, high, none, middle));
+      int[] quests = questGraph.getQuestsBySkillRequirement(Skill.HERBLORE, false, false);
+
+      assertThat(Arrays.stream(quests).mapToObj(questGraph::getQuest).collect(Collectors.toList()),
+          contains(high, middle, low));
+      assertThat(questGraph.getQuestsBySkillRequirement(Skill.ATTACK, false, false).length,
+          is(0));
+    }
+
+    @Test
+    void shouldMergeRecursiveSkillRequirementLevels() {
+      Quest first = createQuest(0, Skill.HERBLORE, 30);
+      Quest second = new Quest.Builder().withId(1).withRequirements(new QuestRequirements.Builder()
+          .withQuests(Set.of(new QuestRequirement.Builder(first).build()))
+          .withSkills(Set.of(new SkillRequirement.Builder(Skill.HERBLORE, 10).build(),
+              new SkillRequirement.Builder(Skill.ATTACK, 20).build())).build()).build();
+      Quest third = new Quest.Builder().withId(2).withRequirements(new QuestRequirements.Builder()
+          .withQuests(Set.of(new QuestRequirement.Builder(second).withIronman(true).build()))
+          .build()).build();
+
+      QuestGraph questGraph = new QuestGraph(Set.of(first, second, third));
+      int[] levels = questGraph
+          .getRecursiveSkillRequirementLevels(questGraph.indexOf(second), false, false);
+
+      assertThat(levels[Skill.HERBLORE.ordinal()], is(30));
+      assertThat(levels[Skill.ATTACK.ordinal()], is(20));
+      assertThat(questGraph.getSkillRequirementLevels(questGraph.indexOf(second), false, false)
+          [Skill.HERBLORE.ordinal()], is(10));
+      assertThat(questGraph.getRecursiveSkillRequirementLevels(questGraph.indexOf(third), false,
+          false)[Skill.ATTACK.ordinal()], is(0));
+      assertThat(questGraph.getRecursiveSkillRequirementLevels(questGraph.indexOf(third), true,
+          false)[Skill.ATTACK.ordinal()], is(20));
+    }
+  }
+
+  @Nested
+  class IndexOf {
+
+    @Test
+    void shouldReturnNegativeForUnknownQuest() {
+      QuestGraph questGraph = new QuestGraph(Set.of(createQuest(0)));
+
+      assertThat(questGraph.indexOf(createQuest(1)), equalTo(-1));
+    }
+  }
+
+  @Nested
+  class IndexesOfTitle {
+
+    @Test
+    void shouldReturnIndexesMatchingTitleOrDisplayNameIgnoringCase() {
+      Quest first = new Quest.Builder().withId(0).withTitle("Title").withDisplayName("Display")
+          .build();
+      Quest second = new Quest.Builder().withId(1).withTitle("Display").build();
+      QuestGraph questGraph = new QuestGraph(List.of(first, second));
+
+      assertThat(questGraph.indexesOfTitle("TITLE"), equalTo(new int[]{questGraph.indexOf(first)}));
+      assertThat(questGraph.indexesOfTitle("display"),
+          equalTo(new int[]{questGraph.indexOf(first), questGraph.indexOf(second)}));
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownTitle() {
+      QuestGraph questGraph = new QuestGraph(Set.of(createQuest(0)));
+
+      assertThat(questGraph.indexesOfTitle("Unknown"), equalTo(new int[0]));
+      assertThat(questGraph.indexesOfTitle(null), equalTo(new int[0]));
+    }
+  }
+}
@@ -1,13 +1,22 @@
 package com.darrenswhite.rs.ironquest.quest;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.quest.QuestRepository.Snapshot;
 import com.darrenswhite.rs.ironquest.quest.requirement.CombatRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.QuestPointsRequirement;
 import com.darrenswhite.rs.ironquest.quest.requirement.QuestRequirement;
@@ -23,6 +32,9 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -36,11 +48,17 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 
 class QuestRepositoryTest {
 
@@ -244,4 +262,168 @@ class QuestRepositoryTest {
           Arguments.of(questRepository, QUESTS_JSON));
     }
   }
+
+  @Nested
+  class GetFilteredQuests {
+
+    List<Integer> getQuestIds(QuestAccessFilter accessFilter, QuestTypeFilter typeFilter) {
+      return minimalQuestRepository.getSnapshot().getQuests(accessFilter, typeFilter).stream()
+          .map(Quest::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void shouldFilterByAccessAndType() {
+      assertThat(getQuestIds(QuestAccessFilter.ALL, QuestTypeFilter.ALL),
+          containsInAnyOrder(-1, 0, 1, 2));
+      assertThat(getQuestIds(QuestAccessFilter.FREE, QuestTypeFilter.ALL),
+          containsInAnyOrder(-1, 0));
+      assertThat(getQuestIds(QuestAccessFilter.FREE, QuestTypeFilter.QUESTS), contains(-1));
+      assertThat(getQuestIds(QuestAccessFilter.FREE, QuestTypeFilter.MINIQUESTS), hasSize(0));
+    }
+
+    @Test
+    void shouldIncludeQuestRequirements() {
+      assertThat(getQuestIds(QuestAccessFilter.MEMBERS, QuestTypeFilter.ALL),
+          containsInAnyOrder(0, 1, 2));
+      assertThat(getQuestIds(QuestAccessFilter.ALL, QuestTypeFilter.MINIQUESTS),
+          containsInAnyOrder(0, 1, 2));
+    }
+
+    @Test
+    void shouldReturnSharedUnmodifiableSet() {
+      Snapshot snapshot = minimalQuestRepository.getSnapshot();
+      Set<Quest> quests = snapshot.getQuests(QuestAccessFilter.ALL, QuestTypeFilter.ALL);
+      Quest quest = quests.iterator().next();
+
+      assertThat(snapshot.getQuests(QuestAccessFilter.ALL, QuestTypeFilter.ALL),
+          is(sameInstance(quests)));
+      assertThrows(UnsupportedOperationException.class, () -> quests.add(quest));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[{\"id\": 0, \"title\": \"Title\", \"type\": \"QUEST\"}]",
+        "[{\"access\": \"FREE\", \"id\": 0, \"title\": \"Title\"}]"})
+    void shouldThrowExceptionForQuestWithoutAccessOrType(String json) {
+      assertThrows(IllegalArgumentException.class, () -> new QuestRepository(
+          new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8)), OBJECT_MAPPER));
+    }
+  }
+
+  @Nested
+  class Reload {
+
+    static final String RELOADED_JSON = "[{\"access\": \"FREE\", \"displayName\": \"Reloaded\", "
+        + "\"id\": 7, \"title\": \"Reloaded\", \"type\": \"QUEST\"}]";
+
+    Path createQuestsFile(Path directory) throws IOException {
+      Path file = directory.resolve(QUESTS_MINIMAL_JSON);
+
+      try (InputStream in = loadFile(QUESTS_MINIMAL_JSON)) {
+        Files.copy(in, file);
+      }
+
+      return file;
+    }
+
+    void modify(Path file, String json) throws IOException {
+      FileTime lastModified = Files.getLastModifiedTime(file);
+
+      Files.writeString(file, json);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+    }
+
+    @Test
+    void shouldSwapSnapshotWhenModified(@TempDir Path directory) throws IOException {
+      Path file = createQuestsFile(directory);
+      ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+      QuestRepository repository = new QuestRepository(new FileSystemResource(file),
+          OBJECT_MAPPER, eventPublisher);
+      Snapshot previous = repository.getSnapshot();
+
+      modify(file, RELOADED_JSON);
+
+      assertThat(repository.reloadIfModified(), is(true));
+
+      Snapshot snapshot = repository.getSnapshot();
+      ArgumentCaptor<QuestsReloadedEvent> event = ArgumentCaptor
+          .forClass(QuestsReloadedEvent.class);
+
+      verify(eventPublisher).publishEvent(event.capture());
+      assertThat(event.getValue().getSnapshot(), is(sameInstance(snapshot)));
+      assertThat(snapshot.getVersion(), is(previous.getVersion() + 1));
+      assertThat(repository.getQuests().stream().map(Quest::getId).collect(Collectors.toList()),
+          contains(7));
+      assertThat(repository.getQuestGraph().indexOf(7), is(0));
+      assertThat(previous.getQuests(), hasSize(minimalQuestRepository.getQuests().size()));
+      assertThat(previous.getQuestGraph().indexOf(7), is(-1));
+    }
+
+    @Test
+    void shouldNotReloadWhenNotModified(@TempDir Path directory) throws IOException {
+      Path file = createQuestsFile(directory);
+      ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+      QuestRepository repository = new QuestRepository(new FileSystemResource(file),
+          OBJECT_MAPPER, eventPublisher);
+      Snapshot snapshot = repository.getSnapshot();
+
+      assertThat(repository.reloadIfModified(), is(false));
+      assertThat(repository.getSnapshot(), is(sameInstance(snapshot)));
+      verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[]", "[{", "[{\"id\": 0, \"requirements\": {\"quests\": "
+        + "[{\"quest\": 0}]}}]"})
+    void shouldKeepSnapshotWhenInvalid(String json, @TempDir Path directory) throws IOException {
+      Path file = createQuestsFile(directory);
+      ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+      QuestRepository repository = new QuestRepository(new FileSystemResource(file),
+          OBJECT_MAPPER, eventPublisher);
+      Snapshot snapshot = repository.getSnapshot();
+
+      modify(file, json);
+
+      assertThat(repository.reloadIfModified(), is(false));
+      assertThat(repository.getSnapshot(), is(sameInstance(snapshot)));
+      verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldNotReloadFailedModificationAgain(@TempDir Path directory) throws IOException {
+      Path file = createQuestsFile(directory);
+      Resource resource = spy(new FileSystemResource(file));
+      QuestRepository repository = new QuestRepository(resource, OBJECT_MAPPER);
+
+      modify(file, "[]");
+
+      assertThat(repository.reloadIfModified(), is(false));
+      assertThat(repository.reloadIfModified(), is(false));
+      verify(resource, times(2)).getInputStream();
+
+      modify(file, RELOADED_JSON);
+
+      assertThat(repository.reloadIfModified(), is(true));
+      assertThat(repository.getQuests().stream().map(Quest::getId).collect(Collectors.toList()),
+          contains(7));
+    }
+
+    @Test
+    void shouldOnlyReloadFileResource(@TempDir Path directory) throws IOException {
+      QuestRepository fileRepository = new QuestRepository(
+          new FileSystemResource(createQuestsFile(directory)), OBJECT_MAPPER);
+      QuestRepository streamRepository = new QuestRepository(
+          new InputStreamResource(loadFile(QUESTS_MINIMAL_JSON)), OBJECT_MAPPER);
+
+      assertThat(fileRepository.isReloadable(), is(true));
+      assertThat(streamRepository.isReloadable(), is(false));
+    }
+
+    @Test
+    void shouldNotReloadResourceWithoutLastModified() throws IOException {
+      QuestRepository repository = new QuestRepository(
+          new InputStreamResource(loadFile(QUESTS_MINIMAL_JSON)), OBJECT_MAPPER);
+
+      assertThat(repository.reloadIfModified(), is(false));
+    }
+  }
 }
@@ -1,8 +1,11 @@
 package com.darrenswhite.rs.ironquest.quest.requirement;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.Skill;
@@ -61,19 +64,21 @@ class SkillRequirementTest {
   class Merge {
 
     @Test
-    void shouldCreateMapWithHighestRequirementFromBothCollections() {
-      List<SkillRequirement> first = List
-          .of(new SkillRequirement.Builder(Skill.SUMMONING, 10).build(),
-              new SkillRequirement.Builder(Skill.HERBLORE, 20).build(),
-              new SkillRequirement.Builder(Skill.STRENGTH, 30).build());
-      List<SkillRequirement> second = List
-          .of(new SkillRequirement.Builder(Skill.SUMMONING, 20).build(),
-              new SkillRequirement.Builder(Skill.HERBLORE, 10).build(),
-              new SkillRequirement.Builder(Skill.DIVINATION, 30).build());
+    void shouldKeepHighestLevelForEachSkill() {
+      int[] levels = new int[Skill.values().length];
+      int[] merge = new int[Skill.values().length];
+
+      levels[Skill.SUMMONING.ordinal()] = 10;
+      levels[Skill.HERBLORE.ordinal()] = 20;
+      levels[Skill.STRENGTH.ordinal()] = 30;
+      merge[Skill.SUMMONING.ordinal()] = 20;
+      merge[Skill.HERBLORE.ordinal()] = 10;
+      merge[Skill.DIVINATION.ordinal()] = 30;
 
-      Set<SkillRequirement> merged = SkillRequirement.merge(first, second);
+      int[] merged = SkillRequirement.merge(levels, merge);
 
-      assertThat(merged,
+      assertThat(merged, sameInstance(levels));
+      assertThat(SkillRequirement.fromLevels(merged),
           containsInAnyOrder(new SkillRequirement.Builder(Skill.SUMMONING, 20).build(),
               new SkillRequirement.Builder(Skill.HERBLORE, 20).build(),
               new SkillRequirement.Builder(Skill.STRENGTH, 30).build(),
@@ -81,6 +86,27 @@ class SkillRequirementTest {
     }
   }
 
+  @Nested
+  class FromLevels {
+
+    @Test
+    void shouldCreateRequirementsInSkillOrder() {
+      int[] levels = new int[Skill.values().length];
+
+      levels[Skill.WOODCUTTING.ordinal()] = 5;
+      levels[Skill.AGILITY.ordinal()] = 10;
+
+      assertThat(SkillRequirement.fromLevels(levels),
+          contains(new SkillRequirement.Builder(Skill.AGILITY, 10).build(),
+              new SkillRequirement.Builder(Skill.WOODCUTTING, 5).build()));
+    }
+
+    @Test
+    void shouldReturnEmptySetWhenNoLevelsAreRequired() {
+      assertThat(SkillRequirement.fromLevels(new int[Skill.values().length]), is(empty()));
+    }
+  }
+
   @Nested
   class Equals {
 
@@ -7,7 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.darrenswhite.rs.ironquest.player.Player;
 import com.darrenswhite.rs.ironquest.player.Skill;
+import com.darrenswhite.rs.ironquest.player.SkillMask;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -89,6 +92,78 @@ class LampRewardTest {
     }
   }
 
+  @Nested
+  class GetChoiceMasks {
+
+    @Test
+    void shouldReturnChoicesInRequirementOrder() {
+      Player player = new Player.Builder().build();
+      Map<Set<Skill>, Integer> requirements = new LinkedHashMap<>();
+
+      requirements.put(Set.of(Skill.STRENGTH), 1);
+      requirements.put(Set.of(Skill.ATTACK, Skill.DEFENCE), 1);
+      requirements.put(Set.of(Skill.COOKING), 2);
+
+      LampReward lampReward = new LampReward.Builder(0).withRequirements(requirements).build();
+
+      assertThat(lampReward.getChoiceMasks(player, new int[0]), is(new int[]{
+          SkillMask.of(Skill.STRENGTH), SkillMask.of(Set.of(Skill.ATTACK, Skill.DEFENCE))}));
+    }
+
+    @Test
+    void shouldReturnDefaultChoicesInSkillOrder() {
+      Player player = new Player.Builder().build();
+
+      LampReward lampReward = new LampReward.Builder(0).build();
+      int[] masks = lampReward.getChoiceMasks(player, new int[0]);
+      int[] sorted = masks.clone();
+
+      Arrays.sort(sorted);
+
+      assertThat(masks.length > 0, is(true));
+      assertThat(masks, is(sorted));
+    }
+
+    @Test
+    void shouldUseLastLevelForRepeatedSkillWhenSingleChoice() {
+      Player player = new Player.Builder().withSkillXps(Map.of(Skill.ATTACK, 0d)).build();
+      Map<Set<Skill>, Integer> requirements = new LinkedHashMap<>();
+
+      requirements.put(Set.of(Skill.ATTACK), 1);
+      requirements.put(Set.of(Skill.DEFENCE), 1);
+      requirements.put(Set.of(Skill.ATTACK, Skill.STRENGTH), 2);
+
+      LampReward lampReward = new LampReward.Builder(0).withSingleChoice(true)
+          .withRequirements(requirements).build();
+
+      assertThat(lampReward.getChoiceMasks(player, new int[0]),
+          is(new int[]{SkillMask.of(Skill.DEFENCE)}));
+    }
+
+    @Test
+    void shouldExcludePreviousMasksWhenExclusive() {
+      Player player = new Player.Builder().build();
+      int attack = SkillMask.of(Skill.ATTACK);
+      int defence = SkillMask.of(Skill.DEFENCE);
+
+      LampReward lampReward = new LampReward.Builder(0).withExclusive(true).withSingleChoice(true)
+          .withRequirements(Map.of(Set.of(Skill.ATTACK, Skill.DEFENCE), 1)).build();
+
+      assertThat(lampReward.getChoiceMasks(player, new int[]{attack}), is(new int[]{defence}));
+    }
+
+    @Test
+    void shouldIncludePreviousMasksWhenNotExclusive() {
+      Player player = new Player.Builder().build();
+      int attack = SkillMask.of(Skill.ATTACK);
+
+      LampReward lampReward = new LampReward.Builder(0)
+          .withRequirements(Map.of(Set.of(Skill.ATTACK), 1)).build();
+
+      assertThat(lampReward.getChoiceMasks(player, new int[]{attack}), is(new int[]{attack}));
+    }
+  }
+
   @Nested
   @TestInstance(TestInstance.Lifecycle.PER_CLASS)
   class GetXpForSkills {
@@ -205,7 +280,8 @@ class LampRewardTest {
 
     @Test
     void shouldVerifyEqualsAndHashCode() {
-      EqualsVerifier.forClass(LampReward.class).verify();
+      EqualsVerifier.forClass(LampReward.class).withIgnoredFields("choiceMasks", "choiceLevels")
+          .verify();
     }
   }
 }